@@ -0,0 +1,91 @@
+package dowob.xyz.blog.benchmark.article;
+
+import dowob.xyz.blog.module.article.config.ArticleRenderConfig;
+import dowob.xyz.blog.module.article.model.RenderedContent;
+import dowob.xyz.blog.module.article.service.MarkdownRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Markdown 渲染基準 (大型文章)
+ * <p>
+ * 以 {@code sections} 個章節組成文章，每節含標題、中英混合段落、清單、程式碼區塊、表格、連結與需清洗的原始 HTML，
+ * 量測 {@link MarkdownRenderer#render} 一次完整渲染 (解析、HTML 輸出、jsoup 清洗、目錄、閱讀時間與摘要) 的耗時。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkdownRenderBenchmark {
+
+    private static final String SECTION = """
+            ## 第 %1$d 節：Spring Boot 與 `Redis` 快取
+
+            在高流量的部落格中，文章詳情是最常被讀取的資料。This paragraph mixes **bold**, *emphasis*, ~~strike~~
+            and a [reference link](https://example.com/posts/%1$d "title") so both CJK and Latin word counts apply.
+            快取命中時不需要查詢資料庫，未命中時以 Single-Flight 合併回源請求。
+
+            ### 實作細節 %1$d
+
+            - 讀取順序：本地快取 -> Redis -> Postgres
+            - 失效方式：交易提交後廣播
+              - 巢狀清單項目，包含 `inline code`
+            1. 第一步
+            2. 第二步
+
+            ```java
+            public ArticleSnapshot get(Long id) {
+                return cache.get(id, key -> loadFromDb(key));
+            }
+            ```
+
+            | 項目 | 延遲 (ms) | 說明 |
+            |:-----|----------:|:----:|
+            | 本地 | 0.01 | Caffeine |
+            | Redis | 0.5 | 單次往返 |
+            | DB | 5 | 索引查詢 |
+
+            > 引用區塊：渲染只在儲存時執行一次。
+
+            <div onclick="alert(1)"><script>alert('x')</script><img src="x.png" onerror="alert(2)"></div>
+
+            """;
+
+    @Param({"50", "500"})
+    private int sections;
+
+    private MarkdownRenderer renderer;
+    private String markdown;
+
+    @Setup
+    public void setUp() {
+        renderer = new MarkdownRenderer(new ArticleRenderConfig());
+        StringBuilder builder = new StringBuilder("# 大型文章渲染基準\n\n");
+        for (int i = 1; i <= sections; i++) {
+            builder.append(SECTION.formatted(i));
+        }
+        markdown = builder.toString();
+    }
+
+    @Benchmark
+    public RenderedContent render() {
+        return renderer.render(markdown);
+    }
+}
@@ -0,0 +1,90 @@
+package dowob.xyz.blog.benchmark.security;
+
+import dowob.xyz.blog.common.api.enums.Role;
+import dowob.xyz.blog.infrastructure.security.JwtClaims;
+import dowob.xyz.blog.infrastructure.security.JwtKeyRing;
+import dowob.xyz.blog.infrastructure.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 驗證基準 (每個請求的驗簽成本)
+ * <p>
+ * {@code legacyFourParses} 重現改版前 Filter 的流程：validateToken 加上三個 getXFromToken，
+ * 每次都建構新的 JwtParser 並重新驗簽 ES256；{@code legacyGettersSharedParser} 為共用解析器但仍驗簽四次；
+ * {@code parseToken} 為目前的單次驗簽。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private JwtKeyRing keyRing;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 未配置金鑰目錄時使用臨時 ES256 金鑰
+        keyRing = new JwtKeyRing("");
+        jwtUtil = new JwtUtil(keyRing);
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .claim(JwtUtil.CLAIM_ROLE, Role.USER.getRoleName())
+                .claim(JwtUtil.CLAIM_VERSION, "1")
+                .subject("42")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + Duration.ofDays(1).toMillis()))
+                .header().keyId(signingKey.kid()).and()
+                .signWith(signingKey.privateKey(), Jwts.SIG.ES256)
+                .compact();
+        if (jwtUtil.parseToken(token).isEmpty()) {
+            throw new IllegalStateException("Benchmark token does not verify");
+        }
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public void legacyGettersSharedParser(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.validateToken(token));
+        blackhole.consume(jwtUtil.getUserIdFromToken(token));
+        blackhole.consume(jwtUtil.getVersionFromToken(token));
+        blackhole.consume(jwtUtil.getRoleFromToken(token));
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        for (int i = 0; i < 4; i++) {
+            Claims claims = Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getPayload();
+            blackhole.consume(claims);
+        }
+    }
+}
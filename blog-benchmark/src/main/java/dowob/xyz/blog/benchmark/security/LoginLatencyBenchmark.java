@@ -0,0 +1,82 @@
+package dowob.xyz.blog.benchmark.security;
+
+import dowob.xyz.blog.common.api.enums.Role;
+import dowob.xyz.blog.infrastructure.config.PasswordHashingConfig;
+import dowob.xyz.blog.infrastructure.config.SecurityConfig;
+import dowob.xyz.blog.infrastructure.security.JwtKeyRing;
+import dowob.xyz.blog.infrastructure.security.JwtUtil;
+import dowob.xyz.blog.infrastructure.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 登入延遲基準 (依密碼編碼器配置)
+ * <p>
+ * 重現 {@code AuthService.login} 中與資料庫無關的 CPU 成本：經專用執行緒池驗證密碼、檢查是否需要升級雜湊，
+ * 再簽發 ES256 Token。以 {@link Mode#SampleTime} 取樣，輸出每種配置的 p50 / p99。
+ * {@code encoder} 格式為 {@code 演算法[:BCrypt 成本]}，編碼器與正式環境同樣由 {@link SecurityConfig#passwordEncoder()} 建構。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginLatencyBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({"bcrypt:10", "bcrypt:12", "pbkdf2"})
+    private String encoder;
+
+    private PasswordHasher hasher;
+    private JwtUtil jwtUtil;
+    private String encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        String[] parts = encoder.split(":");
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setAlgorithm(parts[0]);
+        if (parts.length > 1) {
+            config.setStrength(Integer.parseInt(parts[1]));
+        }
+        config.setPoolSize(1);
+        config.setTimeout(TimeUnit.MINUTES.toMillis(1));
+        PasswordEncoder passwordEncoder = new SecurityConfig(null, config).passwordEncoder();
+        hasher = new PasswordHasher(passwordEncoder, config, new SimpleMeterRegistry());
+        encoded = passwordEncoder.encode(PASSWORD);
+        jwtUtil = new JwtUtil(new JwtKeyRing(""));
+    }
+
+    @TearDown
+    public void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Benchmark
+    public String login() {
+        if (!hasher.matches(PASSWORD, encoded) || hasher.needsUpgrade(encoded)) {
+            throw new IllegalStateException("Unexpected password verification result for " + encoder);
+        }
+        return jwtUtil.generateToken(42L, Role.USER.name(), "1");
+    }
+}
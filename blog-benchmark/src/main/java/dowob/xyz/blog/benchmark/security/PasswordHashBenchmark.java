@@ -0,0 +1,76 @@
+package dowob.xyz.blog.benchmark.security;
+
+import dowob.xyz.blog.infrastructure.config.PasswordHashingConfig;
+import dowob.xyz.blog.infrastructure.config.SecurityConfig;
+import dowob.xyz.blog.infrastructure.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 成本基準
+ * <p>
+ * 以 {@code security.password.strength} 的候選值量測經 {@link PasswordHasher} 專用執行緒池的
+ * encode / matches 耗時 (含排入佇列與等待結果的開銷)，用於在部署硬體上選擇成本參數：
+ * 成本每加 1，耗時約加倍，單執行緒每秒可處理的登入數約減半。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({"10", "11", "12"})
+    private int strength;
+
+    private PasswordHasher hasher;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setStrength(strength);
+        config.setPoolSize(1);
+        // 基準只量測耗時，避免高成本在慢速機器上觸發逾時拒絕
+        config.setTimeout(TimeUnit.MINUTES.toMillis(1));
+        PasswordEncoder encoder = new SecurityConfig(null, config).passwordEncoder();
+        hasher = new PasswordHasher(encoder, config, new SimpleMeterRegistry());
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return hasher.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public String encode() {
+        return hasher.encode(PASSWORD);
+    }
+}
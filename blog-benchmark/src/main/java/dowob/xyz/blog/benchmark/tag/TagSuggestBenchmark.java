@@ -0,0 +1,116 @@
+package dowob.xyz.blog.benchmark.tag;
+
+import dowob.xyz.blog.module.tag.model.dto.response.TagSuggestionResponse;
+import dowob.xyz.blog.module.tag.model.projection.TagInfo;
+import dowob.xyz.blog.module.tag.service.TagSuggestIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 標籤自動完成基準
+ * <p>
+ * 以固定亂數種子產生 {@code tagCount} 個由音節組成的標籤 (前綴分布接近真實詞彙，使用數為長尾分布)，
+ * 量測每次按鍵的 {@link TagSuggestIndex#suggest} 延遲；{@code precomputedPrefixLength=0} 為全部走範圍掃描的對照組。
+ * 另量測單一標籤增量更新 (含重算受影響短前綴) 的成本。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagSuggestBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "ja", "va", "spr", "ing", "re", "dis", "po", "st", "gre", "sql", "ku", "ber", "net", "es", "do",
+            "ck", "er", "py", "th", "on", "go", "la", "ng", "ru", "st", "no", "de", "ts", "ty", "pe", "sc",
+            "ri", "pt", "mi", "cro", "ser", "vi", "ce", "ca", "che", "lin", "ux", "web", "api", "da", "ta"
+    };
+    private static final int LIMIT = 10;
+
+    @Param({"100000"})
+    private int tagCount;
+
+    @Param({"0", "2"})
+    private int precomputedPrefixLength;
+
+    @Param({"j", "ja", "jav", "java-s"})
+    private String prefix;
+
+    private TagSuggestIndex index;
+    private List<TagInfo> tags;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(42);
+        tags = new ArrayList<>(tagCount);
+        for (int i = 1; i <= tagCount; i++) {
+            tags.add(tag(i, randomName(random)));
+        }
+        // 確保較長的前綴也有命中
+        tags.set(0, tag(1, "java-spring"));
+        tags.set(1, tag(2, "java-stream"));
+
+        index = new TagSuggestIndex(20, precomputedPrefixLength);
+        tags.forEach(index::load);
+        index.precompute();
+    }
+
+    @Benchmark
+    public List<TagSuggestionResponse> suggest() {
+        return index.suggest(prefix, LIMIT);
+    }
+
+    @Benchmark
+    public void updateOneTag() {
+        TagInfo tag = tags.get(random.nextInt(tags.size()));
+        tag.setUsageCount(tag.getUsageCount() + 1);
+        index.update(List.of(tag), List.of());
+    }
+
+    private static TagInfo tag(long id, String name) {
+        TagInfo tag = new TagInfo();
+        tag.setId(id);
+        tag.setName(name);
+        tag.setSlug(name.toLowerCase().replace(' ', '-'));
+        tag.setColor("#3B82F6");
+        // 長尾分布：少數標籤使用數很高
+        tag.setUsageCount((long) (100_000 / Math.pow(id, 0.8)));
+        return tag;
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int words = 1 + random.nextInt(2);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                name.append('-');
+            }
+            int syllables = 1 + random.nextInt(3);
+            for (int s = 0; s < syllables; s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        return name.toString();
+    }
+}
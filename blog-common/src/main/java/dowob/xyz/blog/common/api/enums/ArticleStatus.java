@@ -0,0 +1,24 @@
+package dowob.xyz.blog.common.api.enums;
+
+/**
+ * 文章狀態枚舉
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public enum ArticleStatus {
+    /**
+     * 草稿
+     */
+    DRAFT,
+
+    /**
+     * 已發布
+     */
+    PUBLISHED,
+
+    /**
+     * 已封存 (不公開)
+     */
+    ARCHIVED
+}
@@ -0,0 +1,24 @@
+package dowob.xyz.blog.common.api.enums;
+
+/**
+ * 留言狀態枚舉
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public enum CommentStatus {
+    /**
+     * 可見
+     */
+    VISIBLE,
+
+    /**
+     * 已隱藏 (管理員下架，可恢復)
+     */
+    HIDDEN,
+
+    /**
+     * 已刪除 (保留節點以維持討論串結構)
+     */
+    DELETED
+}
@@ -0,0 +1,33 @@
+package dowob.xyz.blog.common.api.enums;
+
+/**
+ * 檔案分類枚舉
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public enum FileCategory {
+    /**
+     * 文章圖片
+     */
+    IMAGE,
+
+    /**
+     * 用戶頭貼
+     */
+    AVATAR,
+
+    /**
+     * 一般附件
+     */
+    ATTACHMENT;
+
+    /**
+     * 此分類是否只接受圖片
+     *
+     * @return 是否只接受 image/* 類型
+     */
+    public boolean isImageOnly() {
+        return this == IMAGE || this == AVATAR;
+    }
+}
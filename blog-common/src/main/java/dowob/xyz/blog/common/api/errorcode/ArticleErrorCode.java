@@ -21,7 +21,17 @@ public enum ArticleErrorCode implements IErrorCode {
     /**
      * 文章發布失敗
      */
-    ARTICLE_PUBLISH_FAILED("A0202", "文章發布失敗");
+    ARTICLE_PUBLISH_FAILED("A0202", "文章發布失敗"),
+
+    /**
+     * 無權限操作此文章
+     */
+    ARTICLE_ACCESS_DENIED("A0203", "無權限操作此文章"),
+
+    /**
+     * Slug 已被使用
+     */
+    ARTICLE_SLUG_DUPLICATED("A0204", "該 Slug 已被使用");
 
     /**
      * 錯誤碼
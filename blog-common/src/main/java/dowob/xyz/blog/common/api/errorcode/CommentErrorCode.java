@@ -0,0 +1,35 @@
+package dowob.xyz.blog.common.api.errorcode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 留言模組錯誤碼 (Comment Module) 範圍：A04
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public enum CommentErrorCode implements IErrorCode {
+
+    /**
+     * 留言不存在或已刪除
+     */
+    COMMENT_NOT_FOUND("A0401", "留言不存在或已刪除"),
+
+    /**
+     * 無權限操作此留言
+     */
+    COMMENT_ACCESS_DENIED("A0402", "無權限操作此留言");
+
+    /**
+     * 錯誤碼
+     */
+    private final String code;
+
+    /**
+     * 錯誤訊息
+     */
+    private final String message;
+}
@@ -38,16 +38,31 @@ public enum CommonErrorCode implements IErrorCode {
      */
     REQUEST_PARAM_MISSING("A0004", "請求參數缺失"),
 
+    /**
+     * 分頁游標無效 (遭竄改、過期或不屬於此查詢)
+     */
+    INVALID_CURSOR("A0005", "分頁游標無效"),
+
 
     /**
      * 系統執行出錯，請稍後再試
      */
     SYSTEM_EXECUTION_ERROR("B0001", "系統執行出錯，請稍後再試"),
 
+    /**
+     * 系統繁忙 (資源池已滿，請求被拒絕)
+     */
+    SYSTEM_BUSY("B0002", "系統繁忙，請稍後再試"),
+
     /**
      * 資料庫服務異常
      */
-    DATABASE_ERROR("B0100", "資料庫服務異常");
+    DATABASE_ERROR("B0100", "資料庫服務異常"),
+
+    /**
+     * 物件儲存服務異常
+     */
+    STORAGE_ERROR("B0200", "檔案儲存服務異常");
 
     /**
      * 錯誤碼
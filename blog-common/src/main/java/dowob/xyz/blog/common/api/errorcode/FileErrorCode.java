@@ -0,0 +1,60 @@
+package dowob.xyz.blog.common.api.errorcode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 檔案模組錯誤碼 (File Module) 範圍：A05
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public enum FileErrorCode implements IErrorCode {
+
+    /**
+     * 上傳內容為空
+     */
+    FILE_EMPTY("A0501", "上傳內容為空"),
+
+    /**
+     * 檔案超過大小上限
+     */
+    FILE_TOO_LARGE("A0502", "檔案超過大小上限"),
+
+    /**
+     * 檔案名稱無效
+     */
+    FILE_NAME_INVALID("A0503", "檔案名稱無效"),
+
+    /**
+     * 不支援的檔案類型
+     */
+    FILE_TYPE_NOT_ALLOWED("A0504", "不支援的檔案類型"),
+
+    /**
+     * 檔案不存在
+     */
+    FILE_NOT_FOUND("A0505", "檔案不存在"),
+
+    /**
+     * 無權限操作此檔案
+     */
+    FILE_ACCESS_DENIED("A0506", "無權限操作此檔案"),
+
+    /**
+     * 內容雜湊格式錯誤
+     */
+    FILE_HASH_INVALID("A0507", "內容雜湊格式錯誤");
+
+    /**
+     * 錯誤碼
+     */
+    private final String code;
+
+    /**
+     * 錯誤訊息
+     */
+    private final String message;
+}
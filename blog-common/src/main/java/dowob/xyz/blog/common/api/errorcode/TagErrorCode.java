@@ -0,0 +1,35 @@
+package dowob.xyz.blog.common.api.errorcode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 標籤模組錯誤碼 (Tag Module) 範圍：A03
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public enum TagErrorCode implements IErrorCode {
+
+    /**
+     * 標籤名稱無效
+     */
+    TAG_NAME_INVALID("A0301", "標籤名稱無效"),
+
+    /**
+     * 標籤數量超過上限
+     */
+    TAG_LIMIT_EXCEEDED("A0302", "標籤數量超過上限");
+
+    /**
+     * 錯誤碼
+     */
+    private final String code;
+
+    /**
+     * 錯誤訊息
+     */
+    private final String message;
+}
@@ -0,0 +1,66 @@
+package dowob.xyz.blog.common.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 游標 (Keyset) 分頁數據封裝類
+ *
+ * <p>
+ * 與 {@link PageResult} 不同，不使用 OFFSET 也預設不計算總數；
+ * 下一頁以 {@code nextCursor} (不透明、已簽章的字串) 從上一頁最後一筆之後繼續查詢，
+ * 無論捲動多深，每頁成本都相同。
+ * </p>
+ *
+ * @param <T> 數據類型
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResult<T> {
+
+    /**
+     * 每頁數量
+     */
+    private Integer pageSize;
+
+    /**
+     * 下一頁游標，沒有下一頁時為 null
+     */
+    private String nextCursor;
+
+    /**
+     * 是否還有下一頁
+     */
+    private Boolean hasMore;
+
+    /**
+     * 總條數 (僅在請求時計算，否則為 null)
+     */
+    private Long total;
+
+    /**
+     * 數據列表
+     */
+    private List<T> list;
+
+    /**
+     * 建立游標分頁結果
+     *
+     * @param pageSize   每頁數量
+     * @param nextCursor 下一頁游標 (沒有下一頁時為 null)
+     * @param list       數據列表
+     * @param <T>        數據類型
+     *
+     * @return 分頁結果對象
+     */
+    public static <T> CursorPageResult<T> of(Integer pageSize, String nextCursor, List<T> list) {
+        return new CursorPageResult<>(pageSize, nextCursor, nextCursor != null, null, list);
+    }
+}
@@ -39,6 +39,11 @@ public class PageResult<T> {
      */
     private Long total;
 
+    /**
+     * 總條數是否為精確值 (false 表示為快取或統計估算值)
+     */
+    private Boolean totalExact;
+
     /**
      * 數據列表
      */
@@ -57,10 +62,27 @@ public class PageResult<T> {
      * @return 分頁結果對象
      */
     public static <T> PageResult<T> of(Integer pageNum, Integer pageSize, Long total, List<T> list) {
+        return of(pageNum, pageSize, total, true, list);
+    }
+
+    /**
+     * 將原始數據轉換為分頁封裝對象 (總條數可能為估算值)
+     *
+     * @param pageNum    當前頁碼
+     * @param pageSize   每頁數量
+     * @param total      總條數
+     * @param totalExact 總條數是否為精確值
+     * @param list       數據列表
+     * @param <T>        數據類型
+     *
+     * @return 分頁結果對象
+     */
+    public static <T> PageResult<T> of(Integer pageNum, Integer pageSize, Long total, boolean totalExact, List<T> list) {
         PageResult<T> result = new PageResult<>();
         result.setPageNum(pageNum);
         result.setPageSize(pageSize);
         result.setTotal(total);
+        result.setTotalExact(totalExact);
         result.setList(list);
         /** 計算總頁數 */
         int totalPages = pageSize > 0 ? (int) Math.ceil((double) total / pageSize) : 0;
@@ -0,0 +1,58 @@
+package dowob.xyz.blog.common.constant;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * RabbitMQ Exchange / Queue / Routing Key 常量
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@UtilityClass
+public class MqConstant {
+
+    /**
+     * 文章領域事件 Exchange (Direct)
+     */
+    public static final String ARTICLE_EXCHANGE = "blog.article";
+
+    /**
+     * 文章按讚事件
+     */
+    public static final String ARTICLE_LIKE_QUEUE = "blog.article.like";
+    public static final String ARTICLE_LIKE_ROUTING_KEY = "article.like";
+
+    /**
+     * 文章渲染請求
+     */
+    public static final String ARTICLE_RENDER_QUEUE = "blog.article.render";
+    public static final String ARTICLE_RENDER_ROUTING_KEY = "article.render";
+
+    /**
+     * 留言數增減事件
+     */
+    public static final String ARTICLE_COMMENT_COUNT_QUEUE = "blog.article.comment-count";
+    public static final String ARTICLE_COMMENT_COUNT_ROUTING_KEY = "article.comment-count";
+
+    /**
+     * 標籤領域事件 Exchange (Direct)
+     */
+    public static final String TAG_EXCHANGE = "blog.tag";
+
+    /**
+     * 標籤使用數增減事件
+     */
+    public static final String TAG_USAGE_QUEUE = "blog.tag.usage";
+    public static final String TAG_USAGE_ROUTING_KEY = "tag.usage";
+
+    /**
+     * 死信 Exchange (Fanout) 與 Queue：重試耗盡的訊息轉存於此，供人工檢查或重放
+     */
+    public static final String DEAD_LETTER_EXCHANGE = "blog.dead-letter";
+    public static final String DEAD_LETTER_QUEUE = "blog.dead-letter";
+
+    /**
+     * 批次監聽容器工廠 Bean 名稱
+     */
+    public static final String BATCH_LISTENER_FACTORY = "batchListenerContainerFactory";
+}
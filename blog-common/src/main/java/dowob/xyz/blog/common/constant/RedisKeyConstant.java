@@ -24,6 +24,133 @@ public class RedisKeyConstant {
     public static final String FIELD_STATUS = "status";
     public static final String FIELD_IS_ACTIVE = "isActive"; // 兼容舊代碼，建議統一
 
+    /**
+     * 用戶認證狀態失效通知頻道 (Pub/Sub)
+     * Message: {userId} 或 {userId}:revoke
+     */
+    public static final String USER_AUTH_INVALIDATE_CHANNEL = "user:auth:invalidate";
+
+    /**
+     * 認證快取預熱標記 (String)
+     * Key 不存在代表 Redis 已重啟或切換，需要重新預熱；同時作為預熱的分散式鎖
+     */
+    public static final String USER_AUTH_WARMUP_MARKER = "user:auth:warmup:marker";
+
+    /**
+     * 文章瀏覽去重 (String，TTL 即去重窗口)
+     * Key: article:view:{articleId}:{visitorKey}
+     */
+    public static final String ARTICLE_VIEW_DEDUP_KEY_PREFIX = "article:view:";
+
+    /**
+     * 文章按讚用戶集合 (Set，含哨兵成員 {@link #ARTICLE_LIKES_SENTINEL} 表示已載入)
+     * Key: article:likes:{articleId}
+     */
+    public static final String ARTICLE_LIKES_KEY_PREFIX = "article:likes:";
+    public static final String ARTICLE_LIKES_SENTINEL = "0";
+
+    /**
+     * 按讚集合載入用的暫存 Key 前綴
+     * Key: article:likes-load:{articleId}:{random}
+     */
+    public static final String ARTICLE_LIKES_LOAD_KEY_PREFIX = "article:likes-load:";
+
+    /**
+     * 按讚數對帳：上一輪發現不一致的文章 (Hash articleId -> Redis 計數)
+     */
+    public static final String ARTICLE_LIKES_DRIFT_KEY = "article:likes-drift";
+
+    /**
+     * 按讚數對帳分散式鎖
+     */
+    public static final String ARTICLE_LIKES_RECONCILE_LOCK = "article:likes-reconcile:lock";
+
+    /**
+     * 留言數校驗：上一輪發現不一致的文章 (Hash articleId -> 當時的 comment_count)
+     */
+    public static final String ARTICLE_COMMENTS_DRIFT_KEY = "article:comments-drift";
+
+    /**
+     * 留言數校驗分散式鎖
+     */
+    public static final String ARTICLE_COMMENTS_VERIFY_LOCK = "article:comments-verify:lock";
+
+    /**
+     * 文章詳情快取 (String，預先序列化的 JSON)
+     * Key: article:detail:{articleId}
+     */
+    public static final String ARTICLE_DETAIL_KEY_PREFIX = "article:detail:";
+
+    /**
+     * 文章 Slug 索引 (String，值為文章 ID，"0" 表示不存在)
+     * Key: article:slug:{slug}
+     */
+    public static final String ARTICLE_SLUG_KEY_PREFIX = "article:slug:";
+
+    /**
+     * 文章詳情重建鎖 (同一時間只有一個 Pod 回源)
+     * Key: article:detail-lock:{articleId}
+     */
+    public static final String ARTICLE_DETAIL_LOCK_PREFIX = "article:detail-lock:";
+
+    /**
+     * 文章快取失效通知頻道 (Pub/Sub)
+     * Message: {articleId}|{slug1},{slug2}
+     */
+    public static final String ARTICLE_CACHE_INVALIDATE_CHANNEL = "article:cache:invalidate";
+
+    /**
+     * 首頁最新 Feed (ZSet，score 為發布時間 epoch 秒)
+     */
+    public static final String ARTICLE_FEED_LATEST_KEY = "article:feed:latest";
+
+    /**
+     * 首頁熱門 Feed (ZSet，score 為時間衰減熱度)
+     */
+    public static final String ARTICLE_FEED_POPULAR_KEY = "article:feed:popular";
+
+    /**
+     * Feed 重建/重算分散式鎖
+     */
+    public static final String ARTICLE_FEED_LOCK = "article:feed:lock";
+
+    /**
+     * 標籤使用數變更通知頻道 (Pub/Sub)，收到後各 Pod 重新載入標籤雲快照
+     * Message: 變更的標籤 ID，以逗號分隔
+     */
+    public static final String TAG_EVENTS_CHANNEL = "tag:events";
+
+    /**
+     * 標籤使用數校驗：上一輪發現不一致的標籤 (Hash tagId -> 當時的 usage_count)
+     */
+    public static final String TAG_USAGE_DRIFT_KEY = "tag:usage-drift";
+
+    /**
+     * 標籤使用數校驗分散式鎖
+     */
+    public static final String TAG_USAGE_VERIFY_LOCK = "tag:usage-verify:lock";
+
+    /**
+     * 文章標籤關聯變更通知頻道 (Pub/Sub)，收到後各 Pod 重新載入這些文章的倒排索引
+     * Message: 變更的文章 ID，以逗號分隔
+     */
+    public static final String TAG_POSTINGS_CHANNEL = "tag:postings";
+
+    /**
+     * 標籤倒排索引快照 (二進位 String，啟動時載入以避免全量掃描)
+     */
+    public static final String TAG_POSTINGS_SNAPSHOT_KEY = "tag:postings:snapshot";
+
+    /**
+     * 標籤倒排索引快照寫入鎖
+     */
+    public static final String TAG_POSTINGS_SNAPSHOT_LOCK = "tag:postings:snapshot:lock";
+
+    /**
+     * 檔案物件 GC 分散式鎖
+     */
+    public static final String FILE_GC_LOCK = "file:gc:lock";
+
     /**
      * 生成用戶認證 Redis Key
      *
@@ -33,4 +160,55 @@ public class RedisKeyConstant {
     public static String getUserAuthKey(Long userId) {
         return USER_AUTH_KEY_PREFIX + userId;
     }
+
+    /**
+     * 生成文章瀏覽去重 Redis Key
+     *
+     * @param articleId  文章ID
+     * @param visitorKey 訪客識別
+     * @return Redis Key
+     */
+    public static String getArticleViewDedupKey(Long articleId, String visitorKey) {
+        return ARTICLE_VIEW_DEDUP_KEY_PREFIX + articleId + ":" + visitorKey;
+    }
+
+    /**
+     * 生成文章按讚集合 Redis Key
+     *
+     * @param articleId 文章ID
+     * @return Redis Key
+     */
+    public static String getArticleLikesKey(Long articleId) {
+        return ARTICLE_LIKES_KEY_PREFIX + articleId;
+    }
+
+    /**
+     * 生成文章詳情快取 Redis Key
+     *
+     * @param articleId 文章ID
+     * @return Redis Key
+     */
+    public static String getArticleDetailKey(Long articleId) {
+        return ARTICLE_DETAIL_KEY_PREFIX + articleId;
+    }
+
+    /**
+     * 生成文章 Slug 索引 Redis Key
+     *
+     * @param slug 文章 Slug
+     * @return Redis Key
+     */
+    public static String getArticleSlugKey(String slug) {
+        return ARTICLE_SLUG_KEY_PREFIX + slug;
+    }
+
+    /**
+     * 生成文章詳情重建鎖 Redis Key
+     *
+     * @param articleId 文章ID
+     * @return Redis Key
+     */
+    public static String getArticleDetailLockKey(Long articleId) {
+        return ARTICLE_DETAIL_LOCK_PREFIX + articleId;
+    }
 }
@@ -0,0 +1,79 @@
+package dowob.xyz.blog.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-Flight 合併載入
+ * <p>
+ * 同一個 Key 同時間只會有一個載入動作在執行，其他並發請求等待並共用同一份結果，
+ * 避免快取失效時大量相同請求同時打到資料庫 (Thundering Herd)。
+ * 被合併等待的次數與等待時間以 {@code singleflight.wait} Timer 輸出。
+ * </p>
+ *
+ * @param <K> Key 類型
+ * @param <V> 結果類型
+ * @author Yuan
+ * @version 1.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Timer coalescedWaits;
+
+    /**
+     * 構造方法
+     *
+     * @param meterRegistry Metrics 註冊中心
+     * @param name          名稱 (作為 Metrics 標籤)
+     */
+    public SingleFlight(MeterRegistry meterRegistry, String name) {
+        this.coalescedWaits = Timer.builder("singleflight.wait")
+                .description("Time spent waiting on an in-flight load of the same key")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 執行載入，若相同 Key 已在載入中則等待其結果
+     *
+     * @param key    Key
+     * @param loader 載入函式
+     * @return 載入結果
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return coalescedWaits.record(() -> await(existing));
+        }
+
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dowob.xyz.blog.infrastructure.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 密碼雜湊配置
+ *
+ * <p>
+ * 從 application.yaml 的 security.password.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * security:
+ *   password:
+ *     algorithm: bcrypt
+ *     strength: 10
+ *     pool-size: 4
+ *     queue-capacity: 64
+ *     timeout: 5000
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingConfig {
+
+    /**
+     * 新雜湊使用的演算法 (bcrypt / pbkdf2)，雜湊值以 {id} 前綴標記
+     */
+    @Pattern(regexp = "bcrypt|pbkdf2", message = "security.password.algorithm 僅支援 bcrypt 或 pbkdf2")
+    private String algorithm = "bcrypt";
+
+    /**
+     * BCrypt 成本參數 (log2 rounds)
+     */
+    @Min(value = 4, message = "security.password.strength 最小為 4")
+    @Max(value = 31, message = "security.password.strength 最大為 31")
+    private int strength = 10;
+
+    /**
+     * 專用雜湊執行緒數 (預設為 CPU 核心數)
+     */
+    @Min(value = 1, message = "security.password.pool-size 必須大於 0")
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 等待佇列容量，滿了之後新的登入/註冊請求直接拒絕
+     */
+    @Min(value = 0, message = "security.password.queue-capacity 不可為負數")
+    private int queueCapacity = 64;
+
+    /**
+     * 等待雜湊結果的最長時間 (毫秒)
+     */
+    @Min(value = 1, message = "security.password.timeout 必須大於 0")
+    private long timeout = 5000;
+}
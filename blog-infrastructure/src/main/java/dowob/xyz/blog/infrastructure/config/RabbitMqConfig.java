@@ -1,12 +1,29 @@
 package dowob.xyz.blog.infrastructure.config;
 
+import dowob.xyz.blog.common.constant.MqConstant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 /**
  * RabbitMQ 配置類
  *
@@ -18,6 +35,7 @@ import org.springframework.context.annotation.Configuration;
  * @author Yuan
  * @version 1.0
  */
+@Slf4j
 @Configuration
 public class RabbitMqConfig {
 
@@ -51,4 +69,94 @@ public class RabbitMqConfig {
         template.setMessageConverter(messageConverter());
         return template;
     }
+
+    /**
+     * 死信 Exchange
+     *
+     * @return Fanout Exchange
+     */
+    @Bean
+    public FanoutExchange deadLetterExchange() {
+        return new FanoutExchange(MqConstant.DEAD_LETTER_EXCHANGE, true, false);
+    }
+
+    /**
+     * 死信 Queue
+     *
+     * @return 持久化 Queue
+     */
+    @Bean
+    public Queue deadLetterQueue() {
+        return QueueBuilder.durable(MqConstant.DEAD_LETTER_QUEUE).build();
+    }
+
+    @Bean
+    public Binding deadLetterBinding() {
+        return BindingBuilder.bind(deadLetterQueue()).to(deadLetterExchange());
+    }
+
+    /**
+     * 批次監聽容器工廠
+     *
+     * <p>
+     * 消費端累積至 batch-size 筆或等待 receive-timeout 後，以 {@code List<T>} 一次交給監聽器，
+     * 適合將大量小事件合併為少數批次 SQL。其餘設定沿用 spring.rabbitmq.listener.simple.*。
+     * </p>
+     * <p>
+     * 監聽器失敗時整批以指數退避重試，超過 max-attempts 後整批轉存至死信 Queue 並確認，
+     * 避免單一無法處理的訊息使整個 Queue 無限重新投遞而停擺。
+     * </p>
+     *
+     * @param configurer        Spring Boot 容器配置器
+     * @param connectionFactory RabbitMQ 連接工廠
+     * @param rabbitTemplate    轉存死信用的 RabbitTemplate
+     * @param batchSize         每批最多訊息數
+     * @param receiveTimeout    湊批等待時間 (毫秒)
+     * @param maxAttempts       每批最多嘗試次數 (含第一次)
+     * @param retryInterval     第一次重試前的等待時間 (毫秒，之後倍增，最多 10 倍)
+     * @return 批次監聽容器工廠
+     */
+    @Bean(MqConstant.BATCH_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            RabbitTemplate rabbitTemplate,
+            @Value("${mq.batch.size:200}") int batchSize,
+            @Value("${mq.batch.receive-timeout:1000}") long receiveTimeout,
+            @Value("${mq.batch.max-attempts:3}") int maxAttempts,
+            @Value("${mq.batch.retry-interval:1000}") long retryInterval) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(Math.max(batchSize, 250));
+        factory.setReceiveTimeout(receiveTimeout);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(maxAttempts)
+                .backOffOptions(retryInterval, 2.0, retryInterval * 10)
+                .recoverer(new DeadLetterBatchRecoverer(rabbitTemplate))
+                .build());
+        return factory;
+    }
+
+    /**
+     * 重試耗盡後將整批訊息轉存至死信 Exchange (附帶例外與原始 Routing Key 標頭)
+     */
+    private static final class DeadLetterBatchRecoverer extends RepublishMessageRecoverer
+            implements MessageBatchRecoverer {
+
+        DeadLetterBatchRecoverer(AmqpTemplate template) {
+            super(template, MqConstant.DEAD_LETTER_EXCHANGE);
+        }
+
+        @Override
+        public void recover(List<Message> messages, Throwable cause) {
+            log.error("Batch of {} messages from {} failed after retries, moving to dead letter queue",
+                    messages.size(), messages.get(0).getMessageProperties().getConsumerQueue(), cause);
+            for (Message message : messages) {
+                recover(message, cause);
+            }
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package dowob.xyz.blog.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 配置類
+ *
+ * <p>
+ * RedisTemplate / StringRedisTemplate 使用 Spring Boot 自動配置，
+ * 此處僅補充 Pub/Sub 所需的監聽容器，各模組自行註冊頻道監聽器
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Redis Pub/Sub 監聽容器
+     *
+     * @param connectionFactory Redis 連接工廠 (由 Spring Boot 自動配置)
+     * @param virtualThreads    是否啟用虛擬執行緒模式
+     * @return 監聽容器
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (virtualThreads) {
+            // 與 Web 層一致，虛擬執行緒模式下監聽器也跑在虛擬執行緒上
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
+        return container;
+    }
+}
@@ -0,0 +1,16 @@
+package dowob.xyz.blog.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 排程配置
+ * 啟用 @Scheduled 定時任務 (快取預熱、計數器落盤等)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -13,7 +13,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -21,6 +23,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Spring Security 配置
@@ -35,6 +38,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PasswordHashingConfig passwordHashingConfig;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -46,6 +50,7 @@ public class SecurityConfig {
                         // 靜態資源與 Swagger
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/favicon.ico", "/error").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
 
                         // 認證相關 API
                         .requestMatchers("/api/v1/auth/**").permitAll()
@@ -62,9 +67,24 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 以前綴標記演算法的委派式密碼編碼器 (例如 {bcrypt}$2a$10$...)
+     * <p>
+     * 新雜湊使用 security.password.algorithm；沒有前綴的舊 BCrypt 雜湊仍可驗證，
+     * 並會在登入成功後升級為目前的演算法與成本。
+     * </p>
+     *
+     * @return 密碼編碼器
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordHashingConfig.getStrength());
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(passwordHashingConfig.getAlgorithm(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
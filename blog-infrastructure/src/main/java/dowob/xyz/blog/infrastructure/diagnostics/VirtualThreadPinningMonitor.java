@@ -0,0 +1,124 @@
+package dowob.xyz.blog.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 虛擬執行緒 Pinning 偵測器
+ * <p>
+ * 虛擬執行緒在 synchronized 區塊或 native 呼叫中阻塞時會釘住 (pin) 載體執行緒，
+ * 載體被釘滿時所有虛擬執行緒都會停擺。此元件以 JFR 事件串流監聽 {@code jdk.VirtualThreadPinned}，
+ * 超過門檻的 Pinning 會輸出堆疊 (優先顯示本專案的呼叫點) 並累計到
+ * {@code virtualthread.pinned} Counter (以最接近的本專案/驅動程式類別為標籤)。
+ * </p>
+ * <p>
+ * 僅在 {@code spring.threads.virtual.enabled=true} 時啟用，可用
+ * {@code diagnostics.virtual-thread-pinning.enabled=false} 關閉。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "dowob.xyz.blog";
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${diagnostics.virtual-thread-pinning.enabled:true}") boolean enabled,
+            @Value("${diagnostics.virtual-thread-pinning.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold={})", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null
+                ? List.of()
+                : event.getStackTrace().getFrames();
+        String site = pinningSite(frames);
+        Counter.builder("virtualthread.pinned")
+                .description("Virtual thread pinning events above the configured threshold")
+                .tag("site", site)
+                .register(meterRegistry)
+                .increment();
+
+        if (log.isWarnEnabled()) {
+            log.warn("Virtual thread pinned for {} ms at {}\n{}", event.getDuration().toMillis(), site,
+                    formatFrames(event.getStackTrace()));
+        }
+    }
+
+    /**
+     * 找出最有意義的 Pinning 位置：優先本專案類別，否則取第一個非 JDK 類別
+     */
+    private static String pinningSite(List<RecordedFrame> frames) {
+        String firstNonJdk = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type;
+            }
+            if (firstNonJdk == null && !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                firstNonJdk = type;
+            }
+        }
+        return firstNonJdk != null ? firstNonJdk : "jdk";
+    }
+
+    private static String formatFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t<no stack trace>";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(MAX_LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,12 @@
+package dowob.xyz.blog.infrastructure.pagination;
+
+/**
+ * 總數結果
+ *
+ * @param value 總數
+ * @param exact 是否為精確值 (false 表示快取或統計估算值)
+ * @author Yuan
+ * @version 1.0
+ */
+public record Count(long value, boolean exact) {
+}
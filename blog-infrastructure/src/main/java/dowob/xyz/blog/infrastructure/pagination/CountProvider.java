@@ -0,0 +1,94 @@
+package dowob.xyz.blog.infrastructure.pagination;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 分頁總數提供者
+ * <p>
+ * 避免每次列表請求都對大表執行精確 {@code COUNT(*)}，依情境選擇策略：
+ * </p>
+ * <ul>
+ *     <li>{@link #cached}：未過濾的列表，精確計數結果快取並於背景定期刷新 (非精確)</li>
+ *     <li>{@link #bounded}：過濾後的列表，先以 {@code LIMIT cap + 1} 的有界計數取得精確值，
+ *     超過門檻時改用快取計數</li>
+ * </ul>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+public class CountProvider {
+
+    private final long exactThreshold;
+    private final LoadingCache<CountKey, Long> counts;
+
+    public CountProvider(MeterRegistry meterRegistry,
+            @Value("${pagination.count.refresh-interval:60s}") Duration refreshInterval,
+            @Value("${pagination.count.maximum-size:10000}") long maximumSize,
+            @Value("${pagination.count.exact-threshold:10000}") long exactThreshold) {
+        this.exactThreshold = exactThreshold;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // 過期前先以背景刷新更新，讀取端只有第一次需要等待計數
+                .refreshAfterWrite(refreshInterval)
+                .expireAfterAccess(refreshInterval.multipliedBy(10))
+                .recordStats()
+                .build(key -> key.counter().getAsLong());
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "pagination.count");
+    }
+
+    /**
+     * 取得快取的計數 (第一次同步計算，之後於背景定期刷新)
+     *
+     * @param key     快取 Key (需涵蓋所有過濾條件)
+     * @param counter 精確計數函式
+     * @return 非精確總數
+     */
+    public Count cached(String key, LongSupplier counter) {
+        return new Count(counts.get(new CountKey(key, counter)), false);
+    }
+
+    /**
+     * 過濾後列表的總數：結果不超過門檻時精確計數，超過時改用快取計數
+     *
+     * @param key           快取 Key (需涵蓋所有過濾條件)
+     * @param boundedCounter 有界計數函式，參數為上限 (實作應以 LIMIT 上限 + 1 計數)
+     * @param counter        精確計數函式
+     * @return 總數
+     */
+    public Count bounded(String key, LongUnaryOperator boundedCounter, LongSupplier counter) {
+        long bounded = boundedCounter.applyAsLong(exactThreshold);
+        if (bounded <= exactThreshold) {
+            return new Count(bounded, true);
+        }
+        return cached(key, counter);
+    }
+
+    /**
+     * 快取 Key：只以名稱比較，計數函式隨 Key 保存供背景刷新使用
+     *
+     * @param name    名稱
+     * @param counter 精確計數函式
+     */
+    private record CountKey(String name, LongSupplier counter) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountKey key && name.equals(key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+}
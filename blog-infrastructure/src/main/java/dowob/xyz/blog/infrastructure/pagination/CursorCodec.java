@@ -0,0 +1,117 @@
+package dowob.xyz.blog.infrastructure.pagination;
+
+import dowob.xyz.blog.common.api.errorcode.CommonErrorCode;
+import dowob.xyz.blog.common.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 分頁游標編解碼
+ * <p>
+ * 游標為 {@code base64url(payload).base64url(hmac)}，payload 為 scope 與各排序鍵值，
+ * 以 HMAC-SHA256 簽章 (截斷為 128 bit)。scope 用來綁定查詢種類與條件 (例如 {@code articles:tag=java})，
+ * 避免游標被竄改或拿到其他查詢使用。密鑰由 {@code pagination.cursor-secret} 提供，
+ * 多 Pod 部署必須共用同一密鑰；未配置時使用臨時密鑰 (重啟後舊游標失效)。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final char SEPARATOR = '\u001F';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(@Value("${pagination.cursor-secret:}") String secret) {
+        byte[] keyBytes;
+        if (StringUtils.hasText(secret)) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        } else {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("pagination.cursor-secret is not configured, using an ephemeral key; "
+                    + "cursors will not survive restarts or be accepted by other instances");
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    /**
+     * 編碼游標
+     *
+     * @param scope  查詢範圍 (查詢種類與過濾條件)
+     * @param values 排序鍵值 (依排序欄位順序)
+     * @return 已簽章的游標
+     */
+    public String encode(String scope, String... values) {
+        StringBuilder payload = new StringBuilder(scope);
+        for (String value : values) {
+            payload.append(SEPARATOR).append(value);
+        }
+        byte[] raw = payload.toString().getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(raw) + "." + ENCODER.encodeToString(sign(raw));
+    }
+
+    /**
+     * 解碼並驗證游標
+     *
+     * @param scope  預期的查詢範圍
+     * @param cursor 游標
+     * @param arity  預期的鍵值數量
+     * @return 排序鍵值
+     * @throws BusinessException 游標格式錯誤、簽章不符或 scope 不符時
+     */
+    public List<String> decode(String scope, String cursor, int arity) {
+        try {
+            int dot = cursor.indexOf('.');
+            if (dot < 0) {
+                throw invalid();
+            }
+            byte[] raw = DECODER.decode(cursor.substring(0, dot));
+            byte[] signature = DECODER.decode(cursor.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(raw), signature)) {
+                throw invalid();
+            }
+            List<String> parts = Arrays.asList(new String(raw, StandardCharsets.UTF_8)
+                    .split(String.valueOf(SEPARATOR), -1));
+            if (parts.size() != arity + 1 || !parts.get(0).equals(scope)) {
+                throw invalid();
+            }
+            return parts.subList(1, parts.size());
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(CommonErrorCode.INVALID_CURSOR);
+    }
+}
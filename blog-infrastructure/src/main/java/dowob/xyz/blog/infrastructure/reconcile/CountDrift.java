@@ -0,0 +1,24 @@
+package dowob.xyz.blog.infrastructure.reconcile;
+
+import lombok.Data;
+
+/**
+ * 計數欄位與實際筆數不一致的列投影
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class CountDrift {
+    private Long id;
+
+    /**
+     * 計數欄位目前的值
+     */
+    private long storedCount;
+
+    /**
+     * 依明細表實際計算的筆數
+     */
+    private long actualCount;
+}
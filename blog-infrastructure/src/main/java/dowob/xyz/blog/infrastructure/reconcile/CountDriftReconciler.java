@@ -0,0 +1,127 @@
+package dowob.xyz.blog.infrastructure.reconcile;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 非同步計數校驗
+ * <p>
+ * 計數欄位以佇列中的增量非同步回寫時，定期依 ID 區間找出計數與實際筆數不一致的列並修正。
+ * 多 Pod 以 Redis 鎖 (持有整個校驗間隔) 確保同時只有一個執行。
+ * 仍在佇列中的增量會造成暫時性落差，因此第一次發現時只把當時的計數記入 Redis Hash，
+ * 下一輪仍以相同數值不一致 (期間沒有增量落地) 才交給修正動作重新計算。
+ * 重送造成的重複增量與遺失的事件都由此收斂。
+ * </p>
+ * <p>
+ * 限制：兩輪之間沒有增量落地不代表佇列已清空。消費端停擺或積壓超過一個校驗間隔時，
+ * 修正值已包含仍在佇列中的明細，這些增量隨後落地會被重複計算；
+ * 此時計數會暫時偏離，待佇列追上後再經兩輪校驗修正。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+public class CountDriftReconciler {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String name;
+    private final String lockKey;
+    private final String driftKey;
+    private final Counter repairs;
+
+    /**
+     * 構造方法
+     *
+     * @param redisTemplate Redis 模板
+     * @param meterRegistry Metrics 註冊中心
+     * @param name          計數名稱 (記錄用，例如 article comment_count)
+     * @param lockKey       校驗鎖 Key
+     * @param driftKey      上一輪不一致記錄的 Hash Key
+     * @param metricName    修正筆數 Counter 名稱
+     */
+    public CountDriftReconciler(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+            String name, String lockKey, String driftKey, String metricName) {
+        this.redisTemplate = redisTemplate;
+        this.name = name;
+        this.lockKey = lockKey;
+        this.driftKey = driftKey;
+        this.repairs = meterRegistry.counter(metricName);
+    }
+
+    /**
+     * 執行一輪校驗 (其他 Pod 本輪已執行時直接返回)
+     *
+     * @param interval   校驗間隔 (鎖的持有時間)
+     * @param batchSize  每次查詢的 ID 區間大小
+     * @param maxId      目前最大 ID
+     * @param driftQuery 查詢 ID 區間內不一致的列
+     * @param repair     依實際筆數重新計算指定 ID 的計數
+     */
+    public void verify(Duration interval, int batchSize, LongSupplier maxId, DriftQuery driftQuery,
+            Consumer<List<Long>> repair) {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", interval))) {
+            return;
+        }
+        try {
+            Map<Object, Object> previous = redisTemplate.opsForHash().entries(driftKey);
+            List<Long> confirmed = new ArrayList<>();
+            Map<String, String> pending = new HashMap<>();
+            long max = maxId.getAsLong();
+            for (long from = 1; from <= max; from += batchSize) {
+                for (CountDrift drift : driftQuery.find(from, from + batchSize - 1)) {
+                    String field = String.valueOf(drift.getId());
+                    String stored = String.valueOf(drift.getStoredCount());
+                    if (Objects.equals(previous.get(field), stored)) {
+                        confirmed.add(drift.getId());
+                        log.warn("Repairing {} for {} (stored={}, actual={})",
+                                name, drift.getId(), drift.getStoredCount(), drift.getActualCount());
+                    } else {
+                        pending.put(field, stored);
+                    }
+                }
+            }
+
+            if (!confirmed.isEmpty()) {
+                repair.accept(confirmed);
+                repairs.increment(confirmed.size());
+            }
+
+            // 以本輪結果整體取代，已恢復一致的列自然移除
+            redisTemplate.delete(driftKey);
+            if (!pending.isEmpty()) {
+                redisTemplate.opsForHash().putAll(driftKey, pending);
+                redisTemplate.expire(driftKey, interval.multipliedBy(3));
+            }
+        } catch (Exception e) {
+            log.error("{} verification failed", name, e);
+        }
+    }
+
+    /**
+     * ID 區間不一致查詢
+     */
+    @FunctionalInterface
+    public interface DriftQuery {
+
+        /**
+         * 查詢 ID 區間內計數與實際筆數不一致的列
+         *
+         * @param fromId 起始 ID (含)
+         * @param toId   結束 ID (含)
+         * @return 不一致的列
+         */
+        List<CountDrift> find(long fromId, long toId);
+    }
+}
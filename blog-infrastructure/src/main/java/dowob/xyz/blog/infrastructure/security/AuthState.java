@@ -0,0 +1,43 @@
+package dowob.xyz.blog.infrastructure.security;
+
+import dowob.xyz.blog.common.api.enums.UserStatus;
+
+import java.util.Objects;
+
+/**
+ * 用戶認證狀態 (對應 Redis Hash user:auth:{userId})
+ *
+ * @param version Token 版本號 (null 統一正規化為空字串)
+ * @param status  用戶狀態 ({@link UserStatus} 名稱)
+ * @author Yuan
+ * @version 1.0
+ */
+public record AuthState(String version, String status) {
+
+    public AuthState {
+        version = normalize(version);
+    }
+
+    /**
+     * 檢查 Token 版本號是否與目前版本一致
+     *
+     * @param tokenVersion Token 內的版本號
+     * @return 是否一致
+     */
+    public boolean matches(String tokenVersion) {
+        return version.equals(normalize(tokenVersion));
+    }
+
+    /**
+     * 用戶狀態是否允許登入
+     *
+     * @return 是否可用
+     */
+    public boolean isAvailable() {
+        return UserStatus.ACTIVE.name().equals(status) || UserStatus.PENDING_VERIFICATION.name().equals(status);
+    }
+
+    private static String normalize(String version) {
+        return Objects.requireNonNullElse(version, "");
+    }
+}
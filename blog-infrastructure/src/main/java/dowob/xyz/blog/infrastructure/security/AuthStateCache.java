@@ -0,0 +1,179 @@
+package dowob.xyz.blog.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.cache.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 用戶認證狀態二級快取 (本地 Near-Cache + Redis)
+ * <p>
+ * 熱路徑上優先讀取本地快取，穩態下不需要任何 Redis 往返。
+ * 狀態變更時由寫入方呼叫 {@link #update} / {@link #revoke} / {@link #evict}，
+ * 透過 Redis Pub/Sub 通知所有 Pod 立即清除本地條目；本地 TTL 僅作為遺失訊息時的保底。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AuthStateCache implements MessageListener {
+
+    private static final String CACHE_NAME = "user.auth.local";
+    private static final String REVOKE_SUFFIX = ":revoke";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuthStateRepository authStateRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Cache<Long, AuthState> localCache;
+    private final SingleFlight<Long, AuthState> loadFlight;
+
+    public AuthStateCache(StringRedisTemplate redisTemplate,
+            AuthStateRepository authStateRepository,
+            VerifiedTokenCache verifiedTokenCache,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auth.cache.local-ttl:5000}") long localTtlMillis,
+            @Value("${auth.cache.local-maximum-size:50000}") long localMaximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.authStateRepository = authStateRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+        this.loadFlight = new SingleFlight<>(meterRegistry, "user.auth.load");
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstant.USER_AUTH_INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 讀取認證狀態 (本地 -> Redis)
+     *
+     * @param userId 用戶 ID
+     * @return 認證狀態，兩級皆未命中時為 null (由呼叫方查 DB 後 {@link #fill})
+     */
+    public AuthState get(Long userId) {
+        AuthState state = localCache.getIfPresent(userId);
+        if (state != null) {
+            return state;
+        }
+
+        state = authStateRepository.find(userId);
+        if (state != null) {
+            localCache.put(userId, state);
+        }
+        return state;
+    }
+
+    /**
+     * 讀取認證狀態，兩級快取皆未命中時以 loader 回源並回填
+     * <p>
+     * 同一用戶的並發 Miss 只會有一個 loader 在執行 (Single-Flight)，
+     * 避免 Redis 清空後大量請求同時打到 DB。
+     * </p>
+     *
+     * @param userId 用戶 ID
+     * @param loader 回源函式 (通常為 DB 查詢)
+     * @return 認證狀態
+     */
+    public AuthState getOrLoad(Long userId, Function<Long, AuthState> loader) {
+        AuthState state = get(userId);
+        if (state != null) {
+            return state;
+        }
+        return loadFlight.execute(userId, () -> fill(userId, loader.apply(userId)));
+    }
+
+    /**
+     * 回填認證狀態 (資料來自 DB，狀態本身未變更，不廣播)
+     * <p>
+     * 只在 Redis 尚無狀態時寫入：DB 查詢期間若登入或停權已寫入較新的狀態，改以 Redis 中的狀態為準，
+     * 本地快取也只放入實際存在於 Redis 的狀態。
+     * </p>
+     *
+     * @param userId 用戶 ID
+     * @param state  從 DB 讀取的認證狀態
+     * @return 生效的認證狀態
+     */
+    public AuthState fill(Long userId, AuthState state) {
+        if (authStateRepository.saveIfAbsent(userId, state)) {
+            localCache.put(userId, state);
+            return state;
+        }
+        AuthState current = authStateRepository.find(userId);
+        if (current == null) {
+            // 重新讀取前已被 evict 或過期，無法確認是否為最新狀態，不放入本地快取
+            return state;
+        }
+        localCache.put(userId, current);
+        return current;
+    }
+
+    /**
+     * 寫入新的認證狀態並通知所有 Pod 清除本地快取
+     *
+     * @param userId 用戶 ID
+     * @param state  認證狀態
+     */
+    public void update(Long userId, AuthState state) {
+        authStateRepository.save(userId, state);
+        publish(String.valueOf(userId));
+    }
+
+    /**
+     * 寫入新的認證狀態並撤銷該用戶所有已快取的 Token (token_version 變更時使用)
+     *
+     * @param userId 用戶 ID
+     * @param state  認證狀態
+     */
+    public void revoke(Long userId, AuthState state) {
+        authStateRepository.save(userId, state);
+        publish(userId + REVOKE_SUFFIX);
+    }
+
+    /**
+     * 刪除認證狀態並通知所有 Pod，下一次請求將回源 DB
+     *
+     * @param userId 用戶 ID
+     */
+    public void evict(Long userId) {
+        authStateRepository.delete(userId);
+        publish(String.valueOf(userId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        boolean revoke = body.endsWith(REVOKE_SUFFIX);
+        try {
+            Long userId = Long.parseLong(revoke ? body.substring(0, body.length() - REVOKE_SUFFIX.length()) : body);
+            localCache.invalidate(userId);
+            if (revoke) {
+                verifiedTokenCache.invalidateUser(userId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignore malformed auth invalidation message: {}", body);
+        }
+    }
+
+    private void publish(String message) {
+        redisTemplate.convertAndSend(RedisKeyConstant.USER_AUTH_INVALIDATE_CHANNEL, message);
+    }
+}
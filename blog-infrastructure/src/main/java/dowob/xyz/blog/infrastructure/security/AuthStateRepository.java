@@ -0,0 +1,144 @@
+package dowob.xyz.blog.infrastructure.security;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 用戶認證狀態 Redis 存取 (Hash user:auth:{userId})
+ * <p>
+ * 讀取使用單次 HMGET；寫入以 Lua 腳本在一次往返內同時寫入 version/status 並設定 TTL，
+ * 不會留下只寫了一半的 Hash，冷用戶也會自動過期釋放記憶體。
+ * 回填與批次預熱只在 Hash 不存在時寫入，不會以較舊的資料庫快照覆蓋期間已更新的狀態。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+public class AuthStateRepository {
+
+    /**
+     * HSET key version {v} status {s} + PEXPIRE key {ttl}
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /**
+     * Hash 不存在時才 HSET key version {v} status {s} + PEXPIRE key {ttl}
+     */
+    private static final RedisScript<Long> SAVE_IF_ABSENT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    private static final List<Object> FIELDS = List.of(RedisKeyConstant.FIELD_VERSION, RedisKeyConstant.FIELD_STATUS);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+
+    public AuthStateRepository(StringRedisTemplate redisTemplate,
+            @Value("${auth.cache.redis-ttl:86400000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 讀取認證狀態 (HMGET)
+     *
+     * @param userId 用戶 ID
+     * @return 認證狀態，Hash 不存在或欄位不完整時為 null
+     */
+    public AuthState find(Long userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(RedisKeyConstant.getUserAuthKey(userId), FIELDS);
+        if (values.size() != FIELDS.size() || values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+        return new AuthState((String) values.get(0), (String) values.get(1));
+    }
+
+    /**
+     * 原子寫入認證狀態並刷新 TTL
+     *
+     * @param userId 用戶 ID
+     * @param state  認證狀態
+     */
+    public void save(Long userId, AuthState state) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(RedisKeyConstant.getUserAuthKey(userId)),
+                RedisKeyConstant.FIELD_VERSION, state.version(),
+                RedisKeyConstant.FIELD_STATUS, state.status(),
+                String.valueOf(ttlMillis));
+    }
+
+    /**
+     * 只在 Hash 不存在時寫入認證狀態並設定 TTL
+     * <p>
+     * 供 DB 回源回填使用：查詢期間若登入或停權已以 {@link #save} 寫入較新的狀態，不以回源結果覆蓋。
+     * </p>
+     *
+     * @param userId 用戶 ID
+     * @param state  認證狀態
+     * @return 是否寫入 (false 表示 Redis 已有狀態)
+     */
+    public boolean saveIfAbsent(Long userId, AuthState state) {
+        Long written = redisTemplate.execute(SAVE_IF_ABSENT_SCRIPT, List.of(RedisKeyConstant.getUserAuthKey(userId)),
+                RedisKeyConstant.FIELD_VERSION, state.version(),
+                RedisKeyConstant.FIELD_STATUS, state.status(),
+                String.valueOf(ttlMillis));
+        return Long.valueOf(1).equals(written);
+    }
+
+    /**
+     * 以 Pipeline 批次寫入認證狀態，只寫入尚不存在的 Hash (每個 Hash 以單一腳本寫入欄位與 TTL)
+     * <p>
+     * 供預熱使用：資料庫快照讀取後到寫入前，若 token_version 已遞增或用戶已被停權，
+     * 新狀態已由 {@link #save} 寫入，此處不可覆蓋，否則已撤銷的 Token 會在 TTL 內重新生效。
+     * </p>
+     *
+     * @param states 用戶 ID -> 認證狀態
+     */
+    public void saveAllIfAbsent(Map<Long, AuthState> states) {
+        if (states.isEmpty()) {
+            return;
+        }
+        byte[] script = SAVE_IF_ABSENT_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] version = RedisKeyConstant.FIELD_VERSION.getBytes(StandardCharsets.UTF_8);
+        byte[] status = RedisKeyConstant.FIELD_STATUS.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(ttlMillis).getBytes(StandardCharsets.UTF_8);
+        // Pipeline 中無法處理 NOSCRIPT 重試，先載入腳本 (Redis 重啟後腳本快取為空)
+        String sha = redisTemplate.execute((RedisCallback<String>) connection ->
+                connection.scriptingCommands().scriptLoad(script));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            states.forEach((userId, state) -> connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, 1,
+                    RedisKeyConstant.getUserAuthKey(userId).getBytes(StandardCharsets.UTF_8),
+                    version, state.version().getBytes(StandardCharsets.UTF_8),
+                    status, state.status().getBytes(StandardCharsets.UTF_8),
+                    ttl));
+            return null;
+        });
+    }
+
+    /**
+     * 刪除認證狀態
+     *
+     * @param userId 用戶 ID
+     */
+    public void delete(Long userId) {
+        redisTemplate.delete(RedisKeyConstant.getUserAuthKey(userId));
+    }
+}
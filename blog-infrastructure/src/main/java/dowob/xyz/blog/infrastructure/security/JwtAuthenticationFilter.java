@@ -1,7 +1,6 @@
 package dowob.xyz.blog.infrastructure.security;
 
 import dowob.xyz.blog.common.api.enums.Role;
-import dowob.xyz.blog.common.constant.RedisKeyConstant;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +8,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,7 +18,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Objects;
 
 /**
  * JWT 認證過濾器
@@ -34,8 +31,9 @@ import java.util.Objects;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserAuthService userAuthService;
-    private final StringRedisTemplate redisTemplate;
+    private final AuthStateCache authStateCache;
 
     @Override
     protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
@@ -45,50 +43,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String userIdStr = jwtUtil.getUserIdFromToken(jwt);
-                Long userId = Long.parseLong(userIdStr);
-                String tokenVersion = jwtUtil.getVersionFromToken(jwt);
-                Role role = jwtUtil.getRoleFromToken(jwt);
+            // 單次驗簽取得所有 Claims (重複的 Token 直接命中快取)
+            JwtClaims claims = StringUtils.hasText(jwt)
+                    ? verifiedTokenCache.getOrVerify(jwt, jwtUtil::parseToken).orElse(null)
+                    : null;
 
-                // 檢查 Redis 中的版本號與狀態
-                // Key format: user:auth:{userId} -> Hash
-                String redisKey = RedisKeyConstant.getUserAuthKey(userId);
-                Object redisVersionObj = redisTemplate.opsForHash().get(redisKey, RedisKeyConstant.FIELD_VERSION);
-                Object redisStatusObj = redisTemplate.opsForHash().get(redisKey, RedisKeyConstant.FIELD_STATUS);
+            if (claims != null) {
+                Long userId = claims.userId();
+                String tokenVersion = claims.version();
+                Role role = claims.role();
 
-                String currentVersion;
-                String currentStatus;
-
-                if (redisVersionObj == null || redisStatusObj == null) {
-                    // Redis Miss -> 查 DB 回填
-                    currentVersion = userAuthService.getUserTokenVersion(userId);
-                    UserAuthService.SimpleUserDetail userDetail = userAuthService.getUserDetail(userId);
-
-                    if (userDetail == null) {
-                        return; // User not found
-                    }
-
-                    // 根據 enabled 簡單判斷狀態 (這裡為了簡化，若 enabled=true 視為 ACTIVE)
-                    // TODO: 之後 UserDetail 應直接回傳 UserStatus Enum
-                    currentStatus = userDetail.enabled() ? "ACTIVE" : "SUSPENDED";
-
-                    redisTemplate.opsForHash().put(redisKey, RedisKeyConstant.FIELD_VERSION, currentVersion);
-                    redisTemplate.opsForHash().put(redisKey, RedisKeyConstant.FIELD_STATUS, currentStatus);
-                } else {
-                    currentVersion = (String) redisVersionObj;
-                    currentStatus = (String) redisStatusObj;
-                }
+                // 檢查版本號與狀態 (本地快取 -> Redis -> DB，DB 回源以 Single-Flight 合併)
+                AuthState authState = authStateCache.getOrLoad(userId, this::loadAuthState);
 
                 // 1. 檢查版本號 (必須完全一致)
-                if (Objects.equals(tokenVersion, currentVersion)) {
-
+                if (!authState.matches(tokenVersion)) {
+                    verifiedTokenCache.invalidate(jwt);
+                    log.info("Token version mismatch for user {}: token={}, server={}", userId, tokenVersion,
+                            authState.version());
+                } else if (!authState.isAvailable()) {
                     // 2. 檢查狀態
-                    if (!"ACTIVE".equals(currentStatus) && !"PENDING_VERIFICATION".equals(currentStatus)) {
-                        log.info("User {} is not active (status={})", userId, currentStatus);
-                        return;
-                    }
-
+                    log.info("User {} is not active (status={})", userId, authState.status());
+                } else {
                     // Token 有效且狀態正常
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userId, null,
@@ -96,9 +72,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                } else {
-                    log.info("Token version mismatch for user {}: token={}, server={}", userId, tokenVersion,
-                            currentVersion);
                 }
             }
         } catch (Exception e) {
@@ -109,6 +82,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
+    private AuthState loadAuthState(Long userId) {
+        UserAuthService.AuthSnapshot snapshot = userAuthService.getAuthSnapshot(userId);
+        return new AuthState(snapshot.tokenVersion(), snapshot.status());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,20 @@
+package dowob.xyz.blog.infrastructure.security;
+
+import dowob.xyz.blog.common.api.enums.Role;
+
+/**
+ * 已驗證的 JWT Claims
+ * <p>
+ * 由 {@link JwtUtil#parseToken(String)} 一次驗簽後產生，Filter 後續只讀取此物件，
+ * 不再重複解析 Token。
+ * </p>
+ *
+ * @param userId    用戶 ID (subject)
+ * @param role      角色
+ * @param version   Token 版本號
+ * @param expiresAt 過期時間 (epoch 毫秒)
+ * @author Yuan
+ * @version 1.0
+ */
+public record JwtClaims(Long userId, Role role, String version, long expiresAt) {
+}
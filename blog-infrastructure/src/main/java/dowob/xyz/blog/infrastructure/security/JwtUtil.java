@@ -1,20 +1,18 @@
 package dowob.xyz.blog.infrastructure.security;
 
 import dowob.xyz.blog.common.api.enums.Role;
+import dowob.xyz.blog.common.exception.BusinessException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.NoSuchAlgorithmException;
-import java.security.PrivateKey;
-import java.security.PublicKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -26,30 +24,29 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    private PrivateKey privateKey;
-    private PublicKey publicKey;
+    /**
+     * Claim 名稱: 角色
+     */
+    public static final String CLAIM_ROLE = "role";
 
-    @Value("${jwt.expiration:86400000}")
-    private long expiration; // 1 day in ms
+    /**
+     * Claim 名稱: Token 版本號
+     */
+    public static final String CLAIM_VERSION = "version";
+
+    private final JwtKeyRing keyRing;
 
     /**
-     * 初始化 EC 金鑰對
-     * <p>
-     * 在實際生產環境中，應從 Keystore 或配置加載固定金鑰。
-     * 開發階段此處暫時每次啟動重新生成。
-     * </p>
+     * 預先建構並重複使用的解析器 (JwtParser 為 thread-safe，驗證公鑰依 kid 由金鑰環查表)
      */
-    @PostConstruct
-    public void init() {
-        try {
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
-            keyPairGenerator.initialize(256);
-            KeyPair keyPair = keyPairGenerator.generateKeyPair();
-            this.privateKey = keyPair.getPrivate();
-            this.publicKey = keyPair.getPublic();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Failed to initialize EC keys", e);
-        }
+    private final JwtParser jwtParser;
+
+    @Value("${jwt.expiration:86400000}")
+    private long expiration; // 1 day in ms
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser().keyLocator(keyRing).build();
     }
 
     /**
@@ -62,24 +59,48 @@ public class JwtUtil {
      */
     public String generateToken(Long userId, String role, String version) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", role);
-        claims.put("version", version);
+        claims.put(CLAIM_ROLE, role);
+        claims.put(CLAIM_VERSION, version);
         return createToken(claims, String.valueOf(userId));
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(privateKey, Jwts.SIG.ES256) // 使用私鑰簽名
+                .header().keyId(signingKey.kid()).and()
+                .signWith(signingKey.privateKey(), Jwts.SIG.ES256) // 使用目前的私鑰簽名
                 .compact();
     }
 
+    /**
+     * 驗證並解析 Token
+     * <p>
+     * 每個請求只做一次 ES256 驗簽，並一次取出 Filter 需要的所有 Claims。
+     * </p>
+     *
+     * @param token JWT Token
+     * @return 驗證通過的 Claims，Token 無效或格式錯誤時為 empty
+     */
+    public Optional<JwtClaims> parseToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            return Optional.of(new JwtClaims(
+                    Long.parseLong(claims.getSubject()),
+                    Role.fromRoleName(claims.get(CLAIM_ROLE, String.class)),
+                    claims.get(CLAIM_VERSION, String.class),
+                    claims.getExpiration().getTime()));
+        } catch (JwtException | IllegalArgumentException | BusinessException e) {
+            return Optional.empty();
+        }
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token); // 使用公鑰驗證
+            extractAllClaims(token); // 使用公鑰驗證
             return true;
         } catch (Exception e) {
             return false;
@@ -91,12 +112,12 @@ public class JwtUtil {
     }
 
     public String getVersionFromToken(String token) {
-        return extractClaim(token, claims -> claims.get("v", String.class));
+        return extractClaim(token, claims -> claims.get(CLAIM_VERSION, String.class));
     }
 
     public Role getRoleFromToken(String token) {
         return extractClaim(token, claims -> {
-            String roleStr = claims.get("role", String.class);
+            String roleStr = claims.get(CLAIM_ROLE, String.class);
             return Role.fromRoleName(roleStr);
         });
     }
@@ -107,10 +128,6 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(publicKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,182 @@
+package dowob.xyz.blog.infrastructure.security;
+
+import dowob.xyz.blog.common.api.errorcode.CommonErrorCode;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 密碼雜湊執行器
+ * <p>
+ * BCrypt 屬於刻意耗時的 CPU 運算，撞庫攻擊時若在 Tomcat 請求執行緒上執行，
+ * 會佔滿所有 Worker 並拖慢共用同一池的文章讀取。此類別將雜湊運算放到有上限的專用執行緒池，
+ * 佇列滿時立即以 {@link CommonErrorCode#SYSTEM_BUSY} 拒絕，而不是讓請求無限堆積。
+ * </p>
+ * <p>
+ * Metrics：{@code password.hash.duration} (雜湊耗時，依演算法/成本標記並輸出 p50/p99)、{@code password.hash.queue.size} (佇列深度)、
+ * {@code password.hash.active} (執行中)、{@code password.hash.rejected} (被拒絕次數)。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = config.getTimeout();
+        this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS, createQueue(config.getQueueCapacity()), new HasherThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.matchesTimer = hashTimer("matches", config, meterRegistry);
+        this.encodeTimer = hashTimer("encode", config, meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Password hashing tasks rejected because the pool was full").register(meterRegistry);
+        meterRegistry.gauge("password.hash.queue.size", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("password.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    /**
+     * 驗證密碼
+     *
+     * @param rawPassword     明文密碼
+     * @param encodedPassword 雜湊值
+     * @return 是否相符
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 雜湊密碼
+     *
+     * @param rawPassword 明文密碼
+     * @return 雜湊值
+     */
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 雜湊是否使用了過時的演算法或成本 (不需執行雜湊運算)
+     *
+     * @param encodedPassword 雜湊值
+     * @return 是否需要升級
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 背景重新雜湊 (不等待結果)
+     * <p>
+     * 與登入共用同一個有上限的執行緒池；池已滿時直接略過，下次登入再升級。
+     * </p>
+     *
+     * @param rawPassword 明文密碼
+     * @param onEncoded   新雜湊值的處理函式 (通常為寫回 DB)
+     */
+    public void upgradeAsync(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                } catch (Exception e) {
+                    log.warn("Password hash upgrade failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Password hash upgrade skipped, hashing pool is full");
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BusinessException(CommonErrorCode.SYSTEM_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing timed out after {} ms", timeoutMillis);
+            throw new BusinessException(CommonErrorCode.SYSTEM_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(CommonErrorCode.SYSTEM_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Timer hashTimer(String operation, PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        return Timer.builder("password.hash.duration")
+                .description("Password hashing latency")
+                .tag("operation", operation)
+                .tag("algorithm", config.getAlgorithm())
+                .tag("strength", String.valueOf(config.getStrength()))
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int capacity) {
+        return capacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 雜湊專用執行緒 (平台執行緒，CPU 密集運算不適合虛擬執行緒)
+     */
+    private static final class HasherThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return Thread.ofPlatform().name("password-hasher-" + sequence.incrementAndGet()).daemon().unstarted(runnable);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package dowob.xyz.blog.infrastructure.security;
+
+import dowob.xyz.blog.common.api.enums.Role;
+import lombok.experimental.UtilityClass;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 安全上下文工具
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@UtilityClass
+public class SecurityUtil {
+
+    /**
+     * 取得目前登入用戶 ID (由 {@link JwtAuthenticationFilter} 設定為 Principal)
+     *
+     * @return 用戶 ID，未登入時為 empty
+     */
+    public static Optional<Long> getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return Optional.of(userId);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 目前登入用戶是否具有指定角色
+     *
+     * @param role 角色
+     * @return 是否具有該角色
+     */
+    public static boolean hasRole(Role role) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> role.getSpringSecurityRole().equals(authority.getAuthority()));
+    }
+}
@@ -30,9 +30,28 @@ public interface UserAuthService {
      */
     SimpleUserDetail getUserDetail(Long userId) throws Exception;
 
+    /**
+     * 載入用戶認證快照 (單次查詢，僅包含認證所需欄位)
+     *
+     * @param userId 用戶 ID
+     * @return 認證快照
+     */
+    AuthSnapshot getAuthSnapshot(Long userId);
+
     /**
      * 簡易用戶詳情 DTO
      */
     record SimpleUserDetail(Long id, String email, String role, boolean enabled) {
     }
+
+    /**
+     * 用戶認證快照 DTO
+     *
+     * @param id           用戶 ID
+     * @param role         角色名稱
+     * @param status       狀態名稱
+     * @param tokenVersion Token 版本號
+     */
+    record AuthSnapshot(Long id, String role, String status, String tokenVersion) {
+    }
 }
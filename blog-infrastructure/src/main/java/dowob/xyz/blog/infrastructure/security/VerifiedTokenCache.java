@@ -0,0 +1,131 @@
+package dowob.xyz.blog.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 已驗證 Token 快取
+ * <p>
+ * 同一瀏覽器在 Session 內會重複送出相同 JWT，此快取以 Token 的 SHA-256 摘要為 Key，
+ * 保存已驗簽的 {@link JwtClaims}，避免每次請求都重做 ECDSA 驗證。
+ * </p>
+ * <ul>
+ *     <li>容量上限由 {@code jwt.cache.maximum-size} 控制</li>
+ *     <li>條目最晚於 Token 的 exp 失效，且不超過 {@code jwt.cache.max-ttl}</li>
+ *     <li>命中/未命中/淘汰計數透過 Micrometer 以 {@code cache=jwt.verified} 標籤輸出</li>
+ * </ul>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+            @Value("${jwt.cache.max-ttl:600000}") long maxTtlMillis,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(TimeUnit.MILLISECONDS.toNanos(maxTtlMillis)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 取得已驗證的 Claims，未命中時呼叫 verifier 驗簽並寫入快取
+     *
+     * @param token    JWT Token
+     * @param verifier 驗簽函式 (驗證失敗回傳 empty，不會被快取)
+     * @return 已驗證的 Claims
+     */
+    public Optional<JwtClaims> getOrVerify(String token, Function<String, Optional<JwtClaims>> verifier) {
+        return Optional.ofNullable(cache.get(digest(token), key -> verifier.apply(token).orElse(null)));
+    }
+
+    /**
+     * 移除單一 Token (例如版本號不符時)
+     *
+     * @param token JWT Token
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * 移除指定用戶的所有 Token (token_version 變更時)
+     *
+     * @param userId 用戶 ID
+     */
+    public void invalidateUser(Long userId) {
+        cache.asMap().values().removeIf(claims -> Objects.equals(claims.userId(), userId));
+    }
+
+    /**
+     * 快取統計 (命中、未命中、淘汰次數)
+     *
+     * @return Caffeine 統計快照
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 目前快取條目數 (估算值)
+     *
+     * @return 條目數
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 以 Token exp 為上限的過期策略
+     */
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(claims.expiresAt() - System.currentTimeMillis());
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
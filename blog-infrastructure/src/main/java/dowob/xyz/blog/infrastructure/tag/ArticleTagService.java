@@ -0,0 +1,35 @@
+package dowob.xyz.blog.infrastructure.tag;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 文章標籤服務接口
+ * <p>
+ * 由 Tag Module 實作，文章模組在儲存/刪除文章的交易內呼叫；
+ * 標籤使用數 (usage_count) 的變更在交易提交後以增量事件非同步批次回寫。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public interface ArticleTagService {
+
+    /**
+     * 以新的標籤集合取代文章目前的標籤 (只寫入差異，不存在的標籤自動建立)
+     *
+     * @param articleId 文章 ID
+     * @param tagNames  標籤名稱 (空集合表示移除所有標籤)
+     * @return 文章目前的標籤 (依名稱排序)
+     */
+    List<TagBrief> replaceTags(Long articleId, Collection<String> tagNames);
+
+    /**
+     * 標籤簡要資訊 DTO
+     *
+     * @param name 名稱
+     * @param slug Slug
+     */
+    record TagBrief(String name, String slug) {
+    }
+}
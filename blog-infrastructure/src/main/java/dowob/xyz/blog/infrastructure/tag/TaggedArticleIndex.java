@@ -0,0 +1,55 @@
+package dowob.xyz.blog.infrastructure.tag;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 標籤倒排索引接口
+ * <p>
+ * 由 Tag Module 實作，在記憶體中保存「標籤 -> 已發布文章 ID」的壓縮點陣圖，
+ * 多標籤的 AND / OR / NOT 組合不需對 article_tags 做多路 JOIN；
+ * 文章模組只取得排序好的 ID 分頁，再自行批次載入文章內容。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public interface TaggedArticleIndex {
+
+    /**
+     * 查詢符合標籤條件的已發布文章 ID (新到舊)
+     *
+     * @param filter   標籤條件
+     * @param beforeId 上一頁最後一筆的文章 ID (不含)，null 表示第一頁
+     * @param size     每頁數量
+     * @return ID 分頁
+     */
+    ArticleIdPage find(TagFilter filter, Long beforeId, int size);
+
+    /**
+     * 通知索引文章的標籤或發布狀態已變更 (交易提交後呼叫，所有 Pod 會重新載入這些文章)
+     *
+     * @param articleIds 文章 ID
+     */
+    void markChanged(Collection<Long> articleIds);
+
+    /**
+     * 標籤條件 (皆以 Slug 表示，空集合表示不限制)
+     *
+     * @param allOf  必須同時擁有的標籤 (AND)
+     * @param anyOf  至少擁有其一的標籤 (OR)
+     * @param noneOf 不可擁有的標籤 (NOT)
+     */
+    record TagFilter(Collection<String> allOf, Collection<String> anyOf, Collection<String> noneOf) {
+    }
+
+    /**
+     * 文章 ID 分頁
+     *
+     * @param articleIds 本頁文章 ID (依 ID 遞減)
+     * @param total      符合條件的總數
+     * @param hasMore    是否還有下一頁
+     */
+    record ArticleIdPage(List<Long> articleIds, long total, boolean hasMore) {
+    }
+}
@@ -0,0 +1,44 @@
+package dowob.xyz.blog.infrastructure.user;
+
+import dowob.xyz.blog.infrastructure.user.UserProfileService.UserProfile;
+
+import java.util.Collection;
+
+/**
+ * 請求範圍的用戶公開資料批次載入器 (DataLoader 模式)
+ * <p>
+ * 組裝回應時先以 {@link #register} 登記需要的用戶 ID，第一次 {@link #get} 時
+ * 才把所有待載入的 ID 合併成一次 {@link UserProfileService#getProfiles} 呼叫；
+ * 已載入的資料在同一請求內重複使用。由 User Module 以 Request Scope Bean 實作，
+ * 只能在 HTTP 請求執行緒中使用。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public interface UserProfileLoader {
+
+    /**
+     * 登記稍後需要的用戶 ID (不觸發查詢)
+     *
+     * @param userId 用戶 ID，null 時忽略
+     */
+    void register(Long userId);
+
+    /**
+     * 批次登記用戶 ID (不觸發查詢)
+     *
+     * @param userIds 用戶 ID
+     */
+    default void registerAll(Collection<Long> userIds) {
+        userIds.forEach(this::register);
+    }
+
+    /**
+     * 取得用戶公開資料，若有尚未載入的登記 ID 則一併批次載入
+     *
+     * @param userId 用戶 ID
+     * @return 公開資料，用戶不存在時為 null
+     */
+    UserProfile get(Long userId);
+}
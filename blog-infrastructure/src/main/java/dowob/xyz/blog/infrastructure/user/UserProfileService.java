@@ -0,0 +1,43 @@
+package dowob.xyz.blog.infrastructure.user;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 用戶公開資料服務接口
+ * <p>
+ * 供文章、留言、標籤等模組取得作者暱稱與頭像，由 User Module 實作 (含本地快取)，
+ * 其他模組不需直接依賴 User Module 或自行 JOIN users 表。
+ * 組裝單一回應時請改用請求範圍的 {@link UserProfileLoader}，同一請求內的查詢會自動合併。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public interface UserProfileService {
+
+    /**
+     * 批次取得用戶公開資料 (快取未命中的部分以單次查詢回源)
+     *
+     * @param userIds 用戶 ID
+     * @return 用戶 ID -> 公開資料，不存在的用戶不會出現在結果中
+     */
+    Map<Long, UserProfile> getProfiles(Collection<Long> userIds);
+
+    /**
+     * 清除本地快取中的用戶公開資料 (暱稱或頭像變更時)
+     *
+     * @param userId 用戶 ID
+     */
+    void evict(Long userId);
+
+    /**
+     * 用戶公開資料 DTO
+     *
+     * @param id        用戶 ID
+     * @param nickname  暱稱
+     * @param avatarUrl 頭像 URL
+     */
+    record UserProfile(Long id, String nickname, String avatarUrl) {
+    }
+}
@@ -0,0 +1,76 @@
+package dowob.xyz.blog.module.article.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 文章詳情快取配置
+ *
+ * <p>
+ * 從 application.yaml 的 article.cache.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * article:
+ *   cache:
+ *     local-maximum-size: 1000
+ *     local-ttl: 60s
+ *     redis-ttl: 1h
+ *     missing-ttl: 60s
+ *     lock-timeout: 3s
+ *     double-delete-delay: 1s
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "article.cache")
+public class ArticleCacheConfig {
+
+    /**
+     * 本地快取最多保存的文章數 (只放最熱門的文章)
+     */
+    @Min(value = 1, message = "article.cache.local-maximum-size 必須大於 0")
+    private long localMaximumSize = 1000;
+
+    /**
+     * 本地快取存活時間 (Pub/Sub 失效通知遺失時的保底)
+     */
+    @NotNull(message = "article.cache.local-ttl 不可為空")
+    private Duration localTtl = Duration.ofSeconds(60);
+
+    /**
+     * Redis 快取存活時間
+     */
+    @NotNull(message = "article.cache.redis-ttl 不可為空")
+    private Duration redisTtl = Duration.ofHours(1);
+
+    /**
+     * 不存在的 Slug 的負快取時間
+     */
+    @NotNull(message = "article.cache.missing-ttl 不可為空")
+    private Duration missingTtl = Duration.ofSeconds(60);
+
+    /**
+     * 重建鎖的存活時間，也是其他 Pod 等待重建結果的上限
+     */
+    @NotNull(message = "article.cache.lock-timeout 不可為空")
+    private Duration lockTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 延遲二次刪除的間隔，清除失效期間被並發回源寫回的舊資料
+     */
+    @NotNull(message = "article.cache.double-delete-delay 不可為空")
+    private Duration doubleDeleteDelay = Duration.ofSeconds(1);
+}
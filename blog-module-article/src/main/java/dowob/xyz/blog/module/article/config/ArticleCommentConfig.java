@@ -0,0 +1,61 @@
+package dowob.xyz.blog.module.article.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 文章留言配置
+ *
+ * <p>
+ * 從 application.yaml 的 article.comment.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * article:
+ *   comment:
+ *     max-depth: 8
+ *     preview-replies: 5
+ *     verify-interval: 600000
+ *     verify-batch-size: 1000
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "article.comment")
+public class ArticleCommentConfig {
+
+    /**
+     * 最大巢狀深度 (頂層為 0)，超過時改為回覆父留言的同層
+     */
+    @Min(value = 1, message = "article.comment.max-depth 必須介於 1-32")
+    @Max(value = 32, message = "article.comment.max-depth 必須介於 1-32")
+    private int maxDepth = 8;
+
+    /**
+     * 討論串列表中每則頂層留言預先載入的回覆數
+     */
+    @Min(value = 0, message = "article.comment.preview-replies 不能小於 0")
+    @Max(value = 100, message = "article.comment.preview-replies 不能大於 100")
+    private int previewReplies = 5;
+
+    /**
+     * 留言數校驗間隔 (毫秒)
+     */
+    private long verifyInterval = 600000;
+
+    /**
+     * 留言數校驗每次處理的文章 ID 區間大小
+     */
+    @Min(value = 1, message = "article.comment.verify-batch-size 必須大於 0")
+    private int verifyBatchSize = 1000;
+}
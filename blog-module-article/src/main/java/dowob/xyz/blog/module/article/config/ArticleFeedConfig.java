@@ -0,0 +1,93 @@
+package dowob.xyz.blog.module.article.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 首頁 Feed 配置
+ *
+ * <p>
+ * 從 application.yaml 的 article.feed.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * article:
+ *   feed:
+ *     latest-max-size: 10000
+ *     popular-max-size: 1000
+ *     view-weight: 1
+ *     like-weight: 5
+ *     comment-weight: 10
+ *     decay-seconds: 45000
+ *     popular-window: 30d
+ *     popular-refresh-interval: 300000
+ *     rebuild-batch-size: 1000
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "article.feed")
+public class ArticleFeedConfig {
+
+    /**
+     * 最新 Feed 保留的文章數
+     */
+    @Min(value = 1, message = "article.feed.latest-max-size 必須大於 0")
+    private long latestMaxSize = 10000;
+
+    /**
+     * 熱門 Feed 保留的文章數
+     */
+    @Min(value = 1, message = "article.feed.popular-max-size 必須大於 0")
+    private long popularMaxSize = 1000;
+
+    /**
+     * 熱度權重：瀏覽
+     */
+    private double viewWeight = 1;
+
+    /**
+     * 熱度權重：按讚
+     */
+    private double likeWeight = 5;
+
+    /**
+     * 熱度權重：留言
+     */
+    private double commentWeight = 10;
+
+    /**
+     * 時間衰減常數：發布時間每晚此秒數，相當於互動量多一個數量級
+     */
+    @Min(value = 1, message = "article.feed.decay-seconds 必須大於 0")
+    private long decaySeconds = 45000;
+
+    /**
+     * 熱門分數定期重算的發布時間範圍 (更早的文章分數已不可能進榜)
+     */
+    @NotNull(message = "article.feed.popular-window 不可為空")
+    private Duration popularWindow = Duration.ofDays(30);
+
+    /**
+     * 熱門分數重算間隔 (毫秒)
+     */
+    private long popularRefreshInterval = 300000;
+
+    /**
+     * 重建時每批讀取的文章數
+     */
+    @Min(value = 1, message = "article.feed.rebuild-batch-size 必須大於 0")
+    private int rebuildBatchSize = 1000;
+}
@@ -0,0 +1,54 @@
+package dowob.xyz.blog.module.article.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 文章按讚配置
+ *
+ * <p>
+ * 從 application.yaml 的 article.like.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * article:
+ *   like:
+ *     cache-ttl: 7d
+ *     reconcile-interval: 600000
+ *     reconcile-batch-size: 1000
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "article.like")
+public class ArticleLikeConfig {
+
+    /**
+     * Redis 按讚集合閒置過期時間 (每次讀寫刷新)
+     */
+    @NotNull(message = "article.like.cache-ttl 不可為空")
+    private Duration cacheTtl = Duration.ofDays(7);
+
+    /**
+     * 對帳間隔 (毫秒)
+     */
+    private long reconcileInterval = 600000;
+
+    /**
+     * 對帳時每批處理的文章數
+     */
+    @Min(value = 1, message = "article.like.reconcile-batch-size 必須大於 0")
+    private int reconcileBatchSize = 1000;
+}
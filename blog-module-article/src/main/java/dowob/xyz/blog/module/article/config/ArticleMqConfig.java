@@ -0,0 +1,56 @@
+package dowob.xyz.blog.module.article.config;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 文章模組 RabbitMQ 拓撲 (Exchange / Queue / Binding)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Configuration
+public class ArticleMqConfig {
+
+    @Bean
+    public DirectExchange articleExchange() {
+        return new DirectExchange(MqConstant.ARTICLE_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue articleLikeQueue() {
+        return QueueBuilder.durable(MqConstant.ARTICLE_LIKE_QUEUE).build();
+    }
+
+    @Bean
+    public Binding articleLikeBinding() {
+        return BindingBuilder.bind(articleLikeQueue()).to(articleExchange()).with(MqConstant.ARTICLE_LIKE_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue articleRenderQueue() {
+        return QueueBuilder.durable(MqConstant.ARTICLE_RENDER_QUEUE).build();
+    }
+
+    @Bean
+    public Binding articleRenderBinding() {
+        return BindingBuilder.bind(articleRenderQueue()).to(articleExchange()).with(MqConstant.ARTICLE_RENDER_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue articleCommentCountQueue() {
+        return QueueBuilder.durable(MqConstant.ARTICLE_COMMENT_COUNT_QUEUE).build();
+    }
+
+    @Bean
+    public Binding articleCommentCountBinding() {
+        return BindingBuilder.bind(articleCommentCountQueue()).to(articleExchange())
+                .with(MqConstant.ARTICLE_COMMENT_COUNT_ROUTING_KEY);
+    }
+}
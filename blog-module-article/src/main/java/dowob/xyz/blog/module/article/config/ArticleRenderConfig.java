@@ -0,0 +1,68 @@
+package dowob.xyz.blog.module.article.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 文章渲染配置
+ *
+ * <p>
+ * 從 application.yaml 的 article.render.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * article:
+ *   render:
+ *     async: false
+ *     toc-max-level: 3
+ *     summary-length: 160
+ *     words-per-minute: 200
+ *     cjk-chars-per-minute: 400
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "article.render")
+public class ArticleRenderConfig {
+
+    /**
+     * 是否經 RabbitMQ 非同步渲染 (false 時於儲存文章的交易內同步渲染)
+     */
+    private boolean async = false;
+
+    /**
+     * 納入目錄的最深標題層級
+     */
+    @Min(value = 1, message = "article.render.toc-max-level 必須介於 1-6")
+    @Max(value = 6, message = "article.render.toc-max-level 必須介於 1-6")
+    private int tocMaxLevel = 3;
+
+    /**
+     * 自動擷取摘要的最大字數
+     */
+    @Min(value = 1, message = "article.render.summary-length 必須大於 0")
+    @Max(value = 500, message = "article.render.summary-length 不能超過 500")
+    private int summaryLength = 160;
+
+    /**
+     * 英文等以空白分詞語言的每分鐘閱讀字數
+     */
+    @Min(value = 1, message = "article.render.words-per-minute 必須大於 0")
+    private int wordsPerMinute = 200;
+
+    /**
+     * 中日韓文字的每分鐘閱讀字數
+     */
+    @Min(value = 1, message = "article.render.cjk-chars-per-minute 必須大於 0")
+    private int cjkCharsPerMinute = 400;
+}
@@ -0,0 +1,54 @@
+package dowob.xyz.blog.module.article.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 文章瀏覽計數配置
+ *
+ * <p>
+ * 從 application.yaml 的 article.view.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * article:
+ *   view:
+ *     dedup-window: 30m
+ *     flush-interval: 10000
+ *     flush-batch-size: 500
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "article.view")
+public class ArticleViewConfig {
+
+    /**
+     * 同一訪客對同一文章的去重窗口，窗口內重複瀏覽不計數
+     */
+    @NotNull(message = "article.view.dedup-window 不可為空")
+    private Duration dedupWindow = Duration.ofMinutes(30);
+
+    /**
+     * 回寫 DB 的間隔 (毫秒)
+     */
+    private long flushInterval = 10000;
+
+    /**
+     * 每條 UPDATE 語句最多包含的文章數
+     */
+    @Min(value = 1, message = "article.view.flush-batch-size 必須大於 0")
+    private int flushBatchSize = 500;
+}
@@ -0,0 +1,176 @@
+package dowob.xyz.blog.module.article.controller;
+
+import dowob.xyz.blog.common.api.errorcode.UserErrorCode;
+import dowob.xyz.blog.common.api.response.ApiResponse;
+import dowob.xyz.blog.common.api.response.CursorPageResult;
+import dowob.xyz.blog.common.api.response.PageResult;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.security.SecurityUtil;
+import dowob.xyz.blog.module.article.model.dto.request.ArticleSaveRequest;
+import dowob.xyz.blog.module.article.model.dto.response.ArticleDetailResponse;
+import dowob.xyz.blog.module.article.model.dto.response.ArticleSummaryResponse;
+import dowob.xyz.blog.module.article.model.dto.response.LikeStatusResponse;
+import dowob.xyz.blog.module.article.service.ArticleFeedService;
+import dowob.xyz.blog.module.article.service.TaggedArticleService;
+import dowob.xyz.blog.module.article.service.ArticleLikeService;
+import dowob.xyz.blog.module.article.service.ArticleQueryService;
+import dowob.xyz.blog.module.article.service.ArticleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 文章控制器
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Tag(name = "Article", description = "文章相關 API")
+@RestController
+@RequestMapping("/api/v1/articles")
+@RequiredArgsConstructor
+public class ArticleController {
+
+    private final ArticleService articleService;
+    private final ArticleLikeService articleLikeService;
+    private final ArticleQueryService articleQueryService;
+    private final ArticleFeedService articleFeedService;
+    private final TaggedArticleService taggedArticleService;
+
+    @Operation(summary = "文章列表", description = "以游標分頁查詢已發布文章 (新到舊)，可依標籤過濾")
+    @GetMapping
+    public ApiResponse<CursorPageResult<ArticleSummaryResponse>> list(
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ApiResponse.success(articleQueryService.listPublished(tag, cursor, size, withTotal));
+    }
+
+    @Operation(summary = "文章列表 (頁碼分頁)", description = "以頁碼分頁查詢已發布文章；總數可能為估算值，見 totalExact")
+    @GetMapping("/paged")
+    public ApiResponse<PageResult<ArticleSummaryResponse>> paged(
+            @RequestParam(required = false) String tag,
+            @RequestParam(defaultValue = "1") int pageNum,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        return ApiResponse.success(articleQueryService.pagePublished(tag, pageNum, pageSize));
+    }
+
+    @Operation(summary = "多標籤組合查詢", description = "依標籤 AND (all) / OR (any) / NOT (none) 組合查詢已發布文章，以游標分頁並回傳總數")
+    @GetMapping("/tagged")
+    public ApiResponse<CursorPageResult<ArticleSummaryResponse>> tagged(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(taggedArticleService.find(all, any, none, cursor, size));
+    }
+
+    @Operation(summary = "最新文章 Feed", description = "首頁最新文章 (Redis ZSet)，以游標分頁")
+    @GetMapping("/feed/latest")
+    public ApiResponse<CursorPageResult<ArticleSummaryResponse>> latestFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(articleFeedService.read(ArticleFeedService.FeedType.LATEST, cursor, size));
+    }
+
+    @Operation(summary = "熱門文章 Feed", description = "首頁熱門文章 (依時間衰減熱度排序)，以游標分頁")
+    @GetMapping("/feed/popular")
+    public ApiResponse<CursorPageResult<ArticleSummaryResponse>> popularFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(articleFeedService.read(ArticleFeedService.FeedType.POPULAR, cursor, size));
+    }
+
+    @Operation(summary = "重建 Feed", description = "從資料庫重建首頁 Feed，回傳重建的文章數 (-1 表示已有重建在執行)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/feed/rebuild")
+    public ApiResponse<Long> rebuildFeed() {
+        return ApiResponse.success(articleFeedService.rebuild());
+    }
+
+    @Operation(summary = "文章詳情", description = "透過 Slug 讀取已發布文章，並記錄瀏覽數")
+    @GetMapping("/{slug}")
+    public ApiResponse<ArticleDetailResponse> detail(@PathVariable String slug, HttpServletRequest request) {
+        return ApiResponse.success(articleService.viewPublished(slug, visitorKey(request)));
+    }
+
+    @Operation(summary = "建立文章", description = "建立草稿文章 (作者或管理員)")
+    @PreAuthorize("hasAnyRole('AUTHOR', 'ADMIN')")
+    @PostMapping
+    public ApiResponse<ArticleDetailResponse> create(@Valid @RequestBody ArticleSaveRequest request) {
+        return ApiResponse.success(articleService.create(requireUserId(), request));
+    }
+
+    @Operation(summary = "更新文章", description = "更新文章內容，僅限作者本人或管理員")
+    @PutMapping("/{slug}")
+    public ApiResponse<ArticleDetailResponse> update(@PathVariable String slug,
+            @Valid @RequestBody ArticleSaveRequest request) {
+        return ApiResponse.success(articleService.update(slug, requireUserId(), request));
+    }
+
+    @Operation(summary = "發布文章", description = "將草稿發布為公開文章，僅限作者本人或管理員")
+    @PostMapping("/{slug}/publish")
+    public ApiResponse<ArticleDetailResponse> publish(@PathVariable String slug) {
+        return ApiResponse.success(articleService.publish(slug, requireUserId()));
+    }
+
+    @Operation(summary = "刪除文章", description = "刪除文章，僅限作者本人或管理員")
+    @DeleteMapping("/{slug}")
+    public ApiResponse<Void> delete(@PathVariable String slug) {
+        articleService.delete(slug, requireUserId());
+        return ApiResponse.success();
+    }
+
+    @Operation(summary = "按讚狀態", description = "查詢文章按讚數與目前用戶是否已按讚")
+    @GetMapping("/{slug}/like")
+    public ApiResponse<LikeStatusResponse> likeStatus(@PathVariable String slug) {
+        return ApiResponse.success(articleLikeService.status(slug, SecurityUtil.getCurrentUserId().orElse(null)));
+    }
+
+    @Operation(summary = "按讚", description = "對文章按讚 (重複按讚不影響計數)")
+    @PutMapping("/{slug}/like")
+    public ApiResponse<LikeStatusResponse> like(@PathVariable String slug) {
+        return ApiResponse.success(articleLikeService.like(slug, requireUserId()));
+    }
+
+    @Operation(summary = "取消按讚", description = "取消對文章的按讚")
+    @DeleteMapping("/{slug}/like")
+    public ApiResponse<LikeStatusResponse> unlike(@PathVariable String slug) {
+        return ApiResponse.success(articleLikeService.unlike(slug, requireUserId()));
+    }
+
+    private static Long requireUserId() {
+        return SecurityUtil.getCurrentUserId().orElseThrow(() -> new BusinessException(UserErrorCode.TOKEN_INVALID));
+    }
+
+    /**
+     * 訪客識別：登入用戶使用用戶 ID，匿名訪客使用 IP + User-Agent 的摘要
+     */
+    private static String visitorKey(HttpServletRequest request) {
+        return SecurityUtil.getCurrentUserId()
+                .map(userId -> "u" + userId)
+                .orElseGet(() -> {
+                    String fingerprint = request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+                    return "a" + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8));
+                });
+    }
+}
@@ -0,0 +1,92 @@
+package dowob.xyz.blog.module.article.controller;
+
+import dowob.xyz.blog.common.api.errorcode.UserErrorCode;
+import dowob.xyz.blog.common.api.response.ApiResponse;
+import dowob.xyz.blog.common.api.response.CursorPageResult;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.security.SecurityUtil;
+import dowob.xyz.blog.module.article.model.dto.request.CommentCreateRequest;
+import dowob.xyz.blog.module.article.model.dto.response.CommentResponse;
+import dowob.xyz.blog.module.article.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * 文章留言控制器
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Tag(name = "Comment", description = "文章留言相關 API")
+@RestController
+@RequestMapping("/api/v1/articles/{slug}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @Operation(summary = "留言列表", description = "以游標分頁查詢頂層留言，每則附帶前幾則回覆與回覆總數")
+    @GetMapping
+    public ApiResponse<CursorPageResult<CommentResponse>> list(@PathVariable String slug,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(commentService.listThreads(slug, cursor, size));
+    }
+
+    @Operation(summary = "討論串回覆", description = "以游標分頁查詢頂層留言下的其餘回覆 (先序)")
+    @GetMapping("/{uuid}/replies")
+    public ApiResponse<CursorPageResult<CommentResponse>> replies(@PathVariable String slug,
+            @PathVariable UUID uuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(commentService.listReplies(slug, uuid, cursor, size));
+    }
+
+    @Operation(summary = "發表留言", description = "發表留言或回覆 (需登入)")
+    @PostMapping
+    public ApiResponse<CommentResponse> create(@PathVariable String slug,
+            @Valid @RequestBody CommentCreateRequest request) {
+        return ApiResponse.success(commentService.create(slug, requireUserId(), request));
+    }
+
+    @Operation(summary = "刪除留言", description = "刪除留言，僅限留言者本人或管理員")
+    @DeleteMapping("/{uuid}")
+    public ApiResponse<Void> delete(@PathVariable String slug, @PathVariable UUID uuid) {
+        commentService.delete(slug, uuid, requireUserId());
+        return ApiResponse.success();
+    }
+
+    @Operation(summary = "隱藏留言", description = "隱藏留言 (管理員)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{uuid}/hidden")
+    public ApiResponse<Void> hide(@PathVariable String slug, @PathVariable UUID uuid) {
+        commentService.setHidden(slug, uuid, true);
+        return ApiResponse.success();
+    }
+
+    @Operation(summary = "恢復留言", description = "恢復被隱藏的留言 (管理員)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{uuid}/hidden")
+    public ApiResponse<Void> unhide(@PathVariable String slug, @PathVariable UUID uuid) {
+        commentService.setHidden(slug, uuid, false);
+        return ApiResponse.success();
+    }
+
+    private static Long requireUserId() {
+        return SecurityUtil.getCurrentUserId().orElseThrow(() -> new BusinessException(UserErrorCode.TOKEN_INVALID));
+    }
+}
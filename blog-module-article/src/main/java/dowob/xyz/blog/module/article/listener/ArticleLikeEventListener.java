@@ -0,0 +1,33 @@
+package dowob.xyz.blog.module.article.listener;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.module.article.model.event.ArticleLikeEvent;
+import dowob.xyz.blog.module.article.service.ArticleLikePersister;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 按讚事件批次消費者
+ * <p>
+ * 落地失敗時拋出例外，容器在本地以指數退避重試整批最多 {@code mq.batch.max-attempts} 次 (寫入皆為冪等，重試不會重複計數)；
+ * 仍失敗則整批轉存至死信佇列 {@link MqConstant#DEAD_LETTER_QUEUE} (附例外與原始 Routing Key)，不再重新投遞，
+ * 需排除問題後人工重送。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleLikeEventListener {
+
+    private final ArticleLikePersister articleLikePersister;
+
+    @RabbitListener(queues = MqConstant.ARTICLE_LIKE_QUEUE, containerFactory = MqConstant.BATCH_LISTENER_FACTORY)
+    public void onEvents(List<ArticleLikeEvent> events) {
+        articleLikePersister.persist(events);
+    }
+}
@@ -0,0 +1,26 @@
+package dowob.xyz.blog.module.article.listener;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.module.article.model.event.ArticleRenderEvent;
+import dowob.xyz.blog.module.article.service.ArticleRenderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 文章渲染消費者 (article.render.async=true 時使用)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleRenderListener {
+
+    private final ArticleRenderService articleRenderService;
+
+    @RabbitListener(queues = MqConstant.ARTICLE_RENDER_QUEUE)
+    public void onRender(ArticleRenderEvent event) {
+        articleRenderService.render(event.articleId());
+    }
+}
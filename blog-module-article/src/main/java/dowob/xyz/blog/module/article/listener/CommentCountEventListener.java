@@ -0,0 +1,34 @@
+package dowob.xyz.blog.module.article.listener;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.module.article.model.event.CommentCountEvent;
+import dowob.xyz.blog.module.article.service.CommentCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 留言數事件批次消費者
+ * <p>
+ * 批次容器在 {@code mq.batch.receive-timeout} 內累積最多 {@code mq.batch.size} 則事件，
+ * 即為增量彙總的時間窗口。回寫失敗時拋出例外，容器在本地以指數退避重試整批最多 {@code mq.batch.max-attempts} 次
+ * (整批在同一交易內回寫，失敗的嘗試不會留下部分增量)；仍失敗則整批轉存至死信佇列 {@link MqConstant#DEAD_LETTER_QUEUE}，
+ * 不再重新投遞，遺漏的增量由 {@code CommentCountVerifier} 校驗修正。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentCountEventListener {
+
+    private final CommentCountService commentCountService;
+
+    @RabbitListener(queues = MqConstant.ARTICLE_COMMENT_COUNT_QUEUE, containerFactory = MqConstant.BATCH_LISTENER_FACTORY)
+    public void onEvents(List<CommentCountEvent> events) {
+        commentCountService.apply(events);
+    }
+}
@@ -0,0 +1,131 @@
+package dowob.xyz.blog.module.article.mapper;
+
+import dowob.xyz.blog.module.article.model.event.ArticleLikeEvent;
+import dowob.xyz.blog.module.article.model.projection.ArticleLikeCount;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Article Like MyBatis Mapper
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Mapper
+public interface ArticleLikeMapper {
+
+    /**
+     * 查詢文章的所有按讚用戶 (載入 Redis 集合用)
+     *
+     * @param articleId 文章 ID
+     * @return 用戶 ID 列表
+     */
+    @Select("SELECT user_id FROM article_likes WHERE article_id = #{articleId}")
+    List<Long> findUserIdsByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 批次新增按讚 (已存在時忽略)
+     * <p>
+     * 事件可能在文章刪除後才到達，只新增文章仍存在的按讚，避免外鍵違反使整批交易失敗。
+     * </p>
+     *
+     * @param likes 按讚列表
+     * @return 實際新增行數
+     */
+    @Insert("""
+            <script>
+            INSERT INTO article_likes (article_id, user_id)
+            SELECT v.article_id, v.user_id
+            FROM (VALUES
+            <foreach collection="likes" item="l" separator=",">
+                (#{l.articleId}::BIGINT, #{l.userId}::BIGINT)
+            </foreach>
+            ) AS v (article_id, user_id)
+            WHERE EXISTS (SELECT 1 FROM articles a WHERE a.id = v.article_id)
+            ON CONFLICT (article_id, user_id) DO NOTHING
+            </script>
+            """)
+    int insertIgnore(@Param("likes") List<ArticleLikeEvent> likes);
+
+    /**
+     * 批次取消按讚
+     *
+     * @param likes 按讚列表
+     * @return 實際刪除行數
+     */
+    @Delete("""
+            <script>
+            DELETE FROM article_likes WHERE (article_id, user_id) IN
+            <foreach collection="likes" item="l" open="(" separator="," close=")">
+                (#{l.articleId}, #{l.userId})
+            </foreach>
+            </script>
+            """)
+    int deleteBatch(@Param("likes") List<ArticleLikeEvent> likes);
+
+    /**
+     * 依 article_likes 重新計算指定文章的 like_count (呼叫方應先以 ArticleMapper.lockByIds 依固定順序鎖定)
+     *
+     * @param articleIds 文章 ID
+     * @return 影響行數
+     */
+    @Update("""
+            <script>
+            UPDATE articles a
+            SET like_count = (SELECT COUNT(*) FROM article_likes l WHERE l.article_id = a.id)
+            WHERE a.id IN
+            <foreach collection="articleIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    int refreshLikeCounts(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 修正 ID 區間內 like_count 與 article_likes 不一致的文章
+     *
+     * @param fromId 起始 ID (含)
+     * @param toId   結束 ID (含)
+     * @return 修正行數
+     */
+    @Update("""
+            UPDATE articles a
+            SET like_count = c.cnt
+            FROM (SELECT ar.id, COUNT(l.user_id) AS cnt
+                  FROM articles ar
+                  LEFT JOIN article_likes l ON l.article_id = ar.id
+                  WHERE ar.id BETWEEN #{fromId} AND #{toId}
+                  GROUP BY ar.id) c
+            WHERE a.id = c.id AND a.like_count <> c.cnt
+            """)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 依 article_likes 計算指定文章的按讚數
+     *
+     * @param articleIds 文章 ID
+     * @return 按讚數 (沒有按讚的文章不會出現在結果中)
+     */
+    @Select("""
+            <script>
+            SELECT article_id, COUNT(*) AS like_count FROM article_likes
+            WHERE article_id IN
+            <foreach collection="articleIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            GROUP BY article_id
+            </script>
+            """)
+    List<ArticleLikeCount> countByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 目前最大的文章 ID
+     *
+     * @return 最大 ID，無文章時為 0
+     */
+    @Select("SELECT COALESCE(MAX(id), 0) FROM articles")
+    long maxArticleId();
+}
@@ -0,0 +1,357 @@
+package dowob.xyz.blog.module.article.mapper;
+
+import dowob.xyz.blog.infrastructure.reconcile.CountDrift;
+import dowob.xyz.blog.module.article.model.CommentCountDelta;
+import dowob.xyz.blog.module.article.model.ViewCountDelta;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.projection.ArticleFeedEntry;
+import dowob.xyz.blog.module.article.model.projection.ArticleRenderSource;
+import dowob.xyz.blog.module.article.model.projection.ArticleSummary;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Article MyBatis Mapper
+ *
+ * <p>
+ * 用於批次更新與複雜查詢，簡單 CRUD 仍可使用 Repository
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Mapper
+public interface ArticleMapper {
+
+    /**
+     * 批次累加瀏覽數 (單一 UPDATE ... FROM (VALUES ...) 語句，呼叫方應先以 {@link #lockByIds} 依固定順序鎖定)
+     *
+     * @param deltas 文章 ID 與增量
+     * @return 影響行數
+     */
+    @Update("""
+            <script>
+            UPDATE articles AS a
+            SET view_count = a.view_count + v.delta
+            FROM (VALUES
+            <foreach collection="deltas" item="d" separator=",">
+                (#{d.articleId}::BIGINT, #{d.delta}::BIGINT)
+            </foreach>
+            ) AS v(id, delta)
+            WHERE a.id = v.id
+            </script>
+            """)
+    int addViewCounts(@Param("deltas") List<ViewCountDelta> deltas);
+
+    /**
+     * 依 ID 遞增順序鎖定文章列 (需在交易內呼叫)
+     * <p>
+     * UPDATE ... FROM (VALUES ...) 的鎖定順序取決於執行計畫 (可能是 Hash Join)，不保證依 VALUES 順序；
+     * 批次更新前先以此語句依固定順序取得列鎖，並行的批次之間才不會互相死鎖。
+     * </p>
+     *
+     * @param articleIds 文章 ID
+     * @return 實際鎖定的文章 ID
+     */
+    @Select("""
+            <script>
+            SELECT id FROM articles
+            WHERE id IN
+            <foreach collection="articleIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            ORDER BY id
+            FOR UPDATE
+            </script>
+            """)
+    List<Long> lockByIds(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 批次累加留言數 (單一語句，呼叫方應先以 {@link #lockByIds} 依固定順序鎖定)
+     *
+     * @param deltas 各文章的增量
+     * @return 影響行數
+     */
+    @Update("""
+            <script>
+            UPDATE articles AS a
+            SET comment_count = GREATEST(a.comment_count + v.delta, 0)
+            FROM (VALUES
+            <foreach collection="deltas" item="d" separator=",">
+                (#{d.articleId}::BIGINT, #{d.delta}::BIGINT)
+            </foreach>
+            ) AS v(id, delta)
+            WHERE a.id = v.id
+            </script>
+            """)
+    int addCommentCounts(@Param("deltas") List<CommentCountDelta> deltas);
+
+    /**
+     * 找出 ID 區間內 comment_count 與可見留言實際筆數不一致的文章
+     *
+     * @param fromId 起始 ID (含)
+     * @param toId   結束 ID (含)
+     * @return 不一致的文章
+     */
+    @Select("""
+            SELECT a.id, a.comment_count AS stored_count, COALESCE(c.cnt, 0) AS actual_count
+            FROM articles a
+            LEFT JOIN (SELECT article_id, COUNT(*) AS cnt
+                       FROM comments
+                       WHERE article_id BETWEEN #{fromId} AND #{toId} AND status = 'VISIBLE'
+                       GROUP BY article_id) c ON c.article_id = a.id
+            WHERE a.id BETWEEN #{fromId} AND #{toId} AND a.comment_count <> COALESCE(c.cnt, 0)
+            """)
+    List<CountDrift> findCommentCountDrift(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 以 comments 重新計算指定文章的留言數
+     *
+     * @param articleIds 文章 ID
+     * @return 影響行數
+     */
+    @Update("""
+            <script>
+            UPDATE articles a
+            SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.article_id = a.id AND c.status = 'VISIBLE')
+            WHERE a.id IN
+            <foreach collection="articleIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    int refreshCommentCounts(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 目前最大的文章 ID
+     *
+     * @return 最大 ID，無文章時為 0
+     */
+    @Select("SELECT COALESCE(MAX(id), 0) FROM articles")
+    long maxId();
+
+    /**
+     * 透過 Slug 查詢文章 ID (Slug 索引回源)
+     *
+     * @param slug Slug
+     * @return 文章 ID，不存在時為 null
+     */
+    @Select("SELECT id FROM articles WHERE slug = #{slug}")
+    Long findIdBySlug(@Param("slug") String slug);
+
+    /**
+     * 查詢文章詳情快照 (不含標籤與作者資料)
+     *
+     * @param id 文章 ID
+     * @return 快照，不存在時為 null
+     */
+    @Select("""
+            SELECT a.id, a.uuid, a.author_id,
+                   a.title, a.slug, a.summary, a.content_md, a.cover_image_url, a.status,
+                   a.content_html, a.toc_json::TEXT AS toc_json, a.reading_minutes,
+                   a.view_count, a.like_count, a.comment_count, a.published_at, a.updated_at
+            FROM articles a
+            WHERE a.id = #{id}
+            """)
+    ArticleSnapshot findSnapshotById(@Param("id") Long id);
+
+    /**
+     * 批次查詢文章標籤
+     *
+     * @param articleIds 文章 ID
+     * @return 標籤參照 (依文章、標籤名稱排序)
+     */
+    @Select("""
+            <script>
+            SELECT at.article_id, t.name, t.slug
+            FROM article_tags at
+            JOIN tags t ON t.id = at.tag_id
+            WHERE at.article_id IN
+            <foreach collection="articleIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            ORDER BY at.article_id, t.name
+            </script>
+            """)
+    List<ArticleSnapshot.TagRef> findTagRefs(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 查詢渲染來源
+     *
+     * @param id 文章 ID
+     * @return 渲染來源，不存在時為 null
+     */
+    @Select("SELECT id, slug, summary, content_md, rendered_hash FROM articles WHERE id = #{id}")
+    ArticleRenderSource findRenderSource(@Param("id") Long id);
+
+    /**
+     * 寫入渲染產物；摘要為空時以擷取的摘要補上
+     *
+     * @param id             文章 ID
+     * @param html           已清洗的 HTML
+     * @param tocJson        目錄 JSON
+     * @param readingMinutes 閱讀時間 (分鐘)
+     * @param summary        擷取的摘要
+     * @param renderedHash   渲染時內容的雜湊
+     * @return 影響行數
+     */
+    @Update("""
+            UPDATE articles
+            SET content_html = #{html},
+                toc_json = CAST(#{tocJson} AS JSONB),
+                reading_minutes = #{readingMinutes},
+                summary = COALESCE(NULLIF(summary, ''), #{summary}),
+                rendered_hash = #{renderedHash},
+                rendered_at = CURRENT_TIMESTAMP
+            WHERE id = #{id}
+            """)
+    int updateRenderArtifacts(@Param("id") Long id,
+            @Param("html") String html,
+            @Param("tocJson") String tocJson,
+            @Param("readingMinutes") int readingMinutes,
+            @Param("summary") String summary,
+            @Param("renderedHash") String renderedHash);
+
+    /**
+     * 以 Keyset 查詢已發布文章 (依 published_at DESC, id DESC)
+     * <p>
+     * 使用 (published_at, id) 的列比較從上一頁最後一筆之後繼續，
+     * 可直接走 idx_articles_published_keyset 索引，不需要 OFFSET。
+     * </p>
+     *
+     * @param tagSlug          標籤 Slug，null 表示不過濾
+     * @param afterPublishedAt 上一頁最後一筆的發布時間，null 表示第一頁
+     * @param afterId          上一頁最後一筆的 ID
+     * @param limit            筆數
+     * @return 文章列表
+     */
+    @Select("""
+            <script>
+            SELECT a.id, a.uuid, a.author_id,
+                   a.title, a.slug, a.summary, a.cover_image_url, a.reading_minutes,
+                   a.view_count, a.like_count, a.comment_count, a.published_at
+            FROM articles a
+            <if test="tagSlug != null">
+            JOIN article_tags at ON at.article_id = a.id
+            JOIN tags t ON t.id = at.tag_id AND t.slug = #{tagSlug}
+            </if>
+            WHERE a.status = 'PUBLISHED'
+            <if test="afterPublishedAt != null">
+              AND (a.published_at, a.id) &lt; (#{afterPublishedAt}, #{afterId})
+            </if>
+            ORDER BY a.published_at DESC, a.id DESC
+            LIMIT #{limit}
+            </script>
+            """)
+    List<ArticleSummary> findPublishedPage(@Param("tagSlug") String tagSlug,
+            @Param("afterPublishedAt") LocalDateTime afterPublishedAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit);
+
+    /**
+     * 計算已發布文章數
+     *
+     * @param tagSlug 標籤 Slug，null 表示不過濾
+     * @return 文章數
+     */
+    @Select("""
+            <script>
+            SELECT COUNT(*) FROM articles a
+            <if test="tagSlug != null">
+            JOIN article_tags at ON at.article_id = a.id
+            JOIN tags t ON t.id = at.tag_id AND t.slug = #{tagSlug}
+            </if>
+            WHERE a.status = 'PUBLISHED'
+            </script>
+            """)
+    long countPublished(@Param("tagSlug") String tagSlug);
+
+    /**
+     * 以 OFFSET 分頁查詢已發布文章 (依 published_at DESC, id DESC)
+     *
+     * @param tagSlug 標籤 Slug，null 表示不過濾
+     * @param offset  跳過筆數
+     * @param limit   筆數
+     * @return 文章列表
+     */
+    @Select("""
+            <script>
+            SELECT a.id, a.uuid, a.author_id,
+                   a.title, a.slug, a.summary, a.cover_image_url, a.reading_minutes,
+                   a.view_count, a.like_count, a.comment_count, a.published_at
+            FROM articles a
+            <if test="tagSlug != null">
+            JOIN article_tags at ON at.article_id = a.id
+            JOIN tags t ON t.id = at.tag_id AND t.slug = #{tagSlug}
+            </if>
+            WHERE a.status = 'PUBLISHED'
+            ORDER BY a.published_at DESC, a.id DESC
+            OFFSET #{offset} LIMIT #{limit}
+            </script>
+            """)
+    List<ArticleSummary> findPublishedOffset(@Param("tagSlug") String tagSlug,
+            @Param("offset") long offset,
+            @Param("limit") int limit);
+
+    /**
+     * 有界計算已發布文章數 (最多掃描 cap + 1 筆，結果大於 cap 代表超過門檻)
+     *
+     * @param tagSlug 標籤 Slug，null 表示不過濾
+     * @param cap     上限
+     * @return min(實際數量, cap + 1)
+     */
+    @Select("""
+            <script>
+            SELECT COUNT(*) FROM (
+                SELECT 1 FROM articles a
+                <if test="tagSlug != null">
+                JOIN article_tags at ON at.article_id = a.id
+                JOIN tags t ON t.id = at.tag_id AND t.slug = #{tagSlug}
+                </if>
+                WHERE a.status = 'PUBLISHED'
+                LIMIT #{cap} + 1
+            ) bounded
+            </script>
+            """)
+    long countPublishedBounded(@Param("tagSlug") String tagSlug, @Param("cap") long cap);
+
+    /**
+     * 查詢指定文章的 Feed 計分欄位
+     *
+     * @param ids 文章 ID
+     * @return 計分欄位 (不存在的文章不會出現在結果中)
+     */
+    @Select("""
+            <script>
+            SELECT id, status, published_at, view_count, like_count, comment_count
+            FROM articles
+            WHERE id IN
+            <foreach collection="ids" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    List<ArticleFeedEntry> findFeedEntries(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 以 Keyset (id) 分批讀取已發布文章的 Feed 計分欄位
+     *
+     * @param publishedSince 發布時間下限，null 表示不限
+     * @param afterId        上一批最後的文章 ID
+     * @param limit          批次大小
+     * @return 計分欄位 (依 ID 升冪)
+     */
+    @Select("""
+            <script>
+            SELECT id, status, published_at, view_count, like_count, comment_count
+            FROM articles
+            WHERE status = 'PUBLISHED' AND id &gt; #{afterId}
+            <if test="publishedSince != null">
+              AND published_at &gt;= #{publishedSince}
+            </if>
+            ORDER BY id
+            LIMIT #{limit}
+            </script>
+            """)
+    List<ArticleFeedEntry> findPublishedFeedBatch(@Param("publishedSince") LocalDateTime publishedSince,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit);
+}
@@ -0,0 +1,152 @@
+package dowob.xyz.blog.module.article.mapper;
+
+import dowob.xyz.blog.common.api.enums.CommentStatus;
+import dowob.xyz.blog.module.article.model.Comment;
+import dowob.xyz.blog.module.article.model.projection.CommentRow;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 留言 Mapper
+ * <p>
+ * 留言以物化路徑 (path) 保存樹狀結構，固定寬度的 ID 區段使字串序等同先序走訪，
+ * 整串討論可透過 idx_comments_thread 單次範圍掃描依顯示順序讀出，不需遞迴查詢。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Mapper
+public interface CommentMapper {
+
+    /**
+     * 新增留言，並依父留言計算 root_id / depth / path
+     * <p>
+     * 先取序列值再寫入，讓 path 在同一條語句內包含自身 ID。
+     * </p>
+     *
+     * @param comment 留言 (寫入後回填 id / uuid / createdAt)
+     * @return 影響行數
+     */
+    @Insert("""
+            INSERT INTO comments (id, article_id, user_id, parent_id, root_id, depth, path, content, status)
+            SELECT n.id, #{articleId}, #{userId}, CAST(#{parentId} AS BIGINT),
+                   COALESCE(p.root_id, n.id),
+                   COALESCE(p.depth + 1, 0),
+                   COALESCE(p.path, '') || LPAD(TO_HEX(n.id), 16, '0'),
+                   #{content}, #{status}
+            FROM (SELECT NEXTVAL('comments_id_seq') AS id) n
+            LEFT JOIN comments p ON p.id = CAST(#{parentId} AS BIGINT)
+            """)
+    @Options(useGeneratedKeys = true, keyProperty = "id,uuid,createdAt", keyColumn = "id,uuid,created_at")
+    int insert(Comment comment);
+
+    /**
+     * 依 UUID 查詢留言
+     *
+     * @param uuid 留言 UUID
+     * @return 留言節點，不存在時為 null
+     */
+    @Select("""
+            SELECT c.id, c.uuid, c.article_id, c.user_id, c.parent_id, p.uuid AS parent_uuid,
+                   c.root_id, c.depth, c.path, c.content, c.status, c.created_at
+            FROM comments c
+            LEFT JOIN comments p ON p.id = c.parent_id
+            WHERE c.uuid = #{uuid}
+            """)
+    CommentRow findByUuid(@Param("uuid") UUID uuid);
+
+    /**
+     * 查詢一頁頂層留言及其討論串的前幾則回覆
+     * <p>
+     * 先以 idx_comments_top_level 取出頂層留言，再以 idx_comments_thread 依 path 讀出這些討論串，
+     * 視窗函數同時計算先序位置與每串回覆總數，超過 replyLimit 的回覆不回傳。
+     * </p>
+     *
+     * @param articleId   文章 ID
+     * @param afterRootId 上一頁最後的頂層留言 ID，null 表示第一頁
+     * @param rootLimit   頂層留言數
+     * @param replyLimit  每串回傳的回覆數上限
+     * @return 依 path 排序的留言節點
+     */
+    @Select("""
+            <script>
+            WITH roots AS (
+                SELECT id
+                FROM comments
+                WHERE article_id = #{articleId} AND parent_id IS NULL
+                <if test="afterRootId != null">
+                  AND id &gt; #{afterRootId}
+                </if>
+                ORDER BY id
+                LIMIT #{rootLimit}
+            )
+            SELECT *
+            FROM (
+                SELECT c.id, c.uuid, c.article_id, c.user_id, c.parent_id, p.uuid AS parent_uuid,
+                       c.root_id, c.depth, c.path, c.content, c.status, c.created_at,
+                       ROW_NUMBER() OVER (PARTITION BY c.root_id ORDER BY c.path) - 1 AS position,
+                       COUNT(*) OVER (PARTITION BY c.root_id) - 1 AS thread_reply_count
+                FROM comments c
+                LEFT JOIN comments p ON p.id = c.parent_id
+                WHERE c.article_id = #{articleId} AND c.root_id IN (SELECT id FROM roots)
+            ) t
+            WHERE position &lt;= #{replyLimit}
+            ORDER BY path
+            </script>
+            """)
+    List<CommentRow> findThreads(@Param("articleId") Long articleId,
+            @Param("afterRootId") Long afterRootId,
+            @Param("rootLimit") int rootLimit,
+            @Param("replyLimit") int replyLimit);
+
+    /**
+     * 以 path 游標讀取討論串的回覆 (先序)
+     *
+     * @param articleId 文章 ID
+     * @param rootId    頂層留言 ID
+     * @param afterPath 上一頁最後的 path
+     * @param limit     數量
+     * @return 依 path 排序的回覆
+     */
+    @Select("""
+            SELECT c.id, c.uuid, c.article_id, c.user_id, c.parent_id, p.uuid AS parent_uuid,
+                   c.root_id, c.depth, c.path, c.content, c.status, c.created_at
+            FROM comments c
+            LEFT JOIN comments p ON p.id = c.parent_id
+            WHERE c.article_id = #{articleId} AND c.root_id = #{rootId} AND c.path > #{afterPath}
+            ORDER BY c.path
+            LIMIT #{limit}
+            """)
+    List<CommentRow> findReplies(@Param("articleId") Long articleId,
+            @Param("rootId") Long rootId,
+            @Param("afterPath") String afterPath,
+            @Param("limit") int limit);
+
+    /**
+     * 變更留言狀態 (刪除 / 隱藏 / 恢復)
+     * <p>
+     * 鎖定該列並回傳變更前的狀態，呼叫方據此計算可見留言數的增量；
+     * 狀態相同或已刪除 (終態) 時不更新。
+     * </p>
+     *
+     * @param id     留言 ID
+     * @param status 新狀態
+     * @return 變更前的狀態，未變更時為 null
+     */
+    @Select("""
+            UPDATE comments c
+            SET status = #{status}, updated_at = CURRENT_TIMESTAMP
+            FROM (SELECT id, status FROM comments WHERE id = #{id} FOR UPDATE) old
+            WHERE c.id = old.id AND old.status <> #{status} AND old.status <> 'DELETED'
+            RETURNING old.status
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    CommentStatus updateStatus(@Param("id") Long id, @Param("status") CommentStatus status);
+}
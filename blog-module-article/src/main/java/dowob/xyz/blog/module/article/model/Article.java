@@ -0,0 +1,114 @@
+package dowob.xyz.blog.module.article.model;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import lombok.Data;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 文章實體
+ * <p>
+ * 計數欄位 (瀏覽/按讚/留言) 標記為唯讀，只由專用的累加 SQL 更新，
+ * 避免編輯文章時以舊值覆蓋並發寫入的計數。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@Table("articles")
+public class Article {
+    @Id
+    private Long id;
+
+    /**
+     * UUID (對外公開ID)
+     */
+    private UUID uuid;
+
+    /**
+     * 作者 ID
+     */
+    @Column("author_id")
+    private Long authorId;
+
+    /**
+     * 標題
+     */
+    private String title;
+
+    /**
+     * URL Slug
+     */
+    private String slug;
+
+    /**
+     * 摘要
+     */
+    private String summary;
+
+    /**
+     * Markdown 內容
+     */
+    @Column("content_md")
+    private String contentMd;
+
+    /**
+     * 封面圖片 URL
+     */
+    @Column("cover_image_url")
+    private String coverImageUrl;
+
+    /**
+     * 狀態
+     */
+    private ArticleStatus status;
+
+    /**
+     * 瀏覽數
+     */
+    @ReadOnlyProperty
+    @Column("view_count")
+    private long viewCount;
+
+    /**
+     * 按讚數
+     */
+    @ReadOnlyProperty
+    @Column("like_count")
+    private long likeCount;
+
+    /**
+     * 留言數
+     */
+    @ReadOnlyProperty
+    @Column("comment_count")
+    private int commentCount;
+
+    /**
+     * 發布時間
+     */
+    @Column("published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * 創建時間
+     */
+    @CreatedDate
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新時間
+     */
+    @LastModifiedDate
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,57 @@
+package dowob.xyz.blog.module.article.model;
+
+import dowob.xyz.blog.common.api.enums.CommentStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 留言實體
+ * <p>
+ * path 由新增 SQL 依父留言計算 (父路徑 + 自身 ID 的 16 位十六進位)，
+ * root_id / depth 同時寫入，之後不再變動。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class Comment {
+    private Long id;
+
+    /**
+     * UUID (對外公開ID)
+     */
+    private UUID uuid;
+
+    /**
+     * 文章 ID
+     */
+    private Long articleId;
+
+    /**
+     * 留言者 ID
+     */
+    private Long userId;
+
+    /**
+     * 父留言 ID，頂層留言為 null
+     */
+    private Long parentId;
+
+    /**
+     * 留言內容
+     */
+    private String content;
+
+    /**
+     * 狀態
+     */
+    private CommentStatus status;
+
+    /**
+     * 建立時間
+     */
+    private LocalDateTime createdAt;
+}
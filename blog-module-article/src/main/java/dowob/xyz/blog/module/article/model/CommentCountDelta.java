@@ -0,0 +1,12 @@
+package dowob.xyz.blog.module.article.model;
+
+/**
+ * 文章留言數增量 (批次回寫用)
+ *
+ * @param articleId 文章 ID
+ * @param delta     增量
+ * @author Yuan
+ * @version 1.0
+ */
+public record CommentCountDelta(Long articleId, long delta) {
+}
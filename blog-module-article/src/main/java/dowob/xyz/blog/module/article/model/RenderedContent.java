@@ -0,0 +1,16 @@
+package dowob.xyz.blog.module.article.model;
+
+import java.util.List;
+
+/**
+ * Markdown 渲染結果
+ *
+ * @param html           已清洗的 HTML
+ * @param toc            目錄
+ * @param readingMinutes 預估閱讀時間 (分鐘)
+ * @param summary        由內文擷取的純文字摘要
+ * @author Yuan
+ * @version 1.0
+ */
+public record RenderedContent(String html, List<TocEntry> toc, int readingMinutes, String summary) {
+}
@@ -0,0 +1,13 @@
+package dowob.xyz.blog.module.article.model;
+
+/**
+ * 文章目錄項目
+ *
+ * @param level 標題層級 (1-6)
+ * @param text  標題文字
+ * @param id    錨點 ID (對應渲染後 HTML 中的 id 屬性)
+ * @author Yuan
+ * @version 1.0
+ */
+public record TocEntry(int level, String text, String id) {
+}
@@ -0,0 +1,12 @@
+package dowob.xyz.blog.module.article.model;
+
+/**
+ * 文章瀏覽數增量 (批次回寫用)
+ *
+ * @param articleId 文章 ID
+ * @param delta     增量
+ * @author Yuan
+ * @version 1.0
+ */
+public record ViewCountDelta(Long articleId, long delta) {
+}
@@ -0,0 +1,60 @@
+package dowob.xyz.blog.module.article.model.cache;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 文章詳情快取快照
+ * <p>
+ * 一次組好文章與標籤，序列化為 JSON 存入 Redis；計數欄位為快照當下的 DB 值，
+ * 回應時再以即時計數覆蓋。作者暱稱與頭像不放入快照，回應時由 UserProfileLoader 補上，
+ * 用戶修改資料後不必失效所有文章快取。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class ArticleSnapshot {
+    private Long id;
+    private UUID uuid;
+    private Long authorId;
+    private String title;
+    private String slug;
+    private String summary;
+    private String contentMd;
+    private String coverImageUrl;
+    private String contentHtml;
+
+    /**
+     * 目錄 (JSON 陣列原文，回應時直接輸出)
+     */
+    private String tocJson;
+    private Integer readingMinutes;
+    private ArticleStatus status;
+    private long viewCount;
+    private long likeCount;
+    private int commentCount;
+    private LocalDateTime publishedAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 標籤 (由 article_tags 另行查詢填入)
+     */
+    private List<TagRef> tags = new ArrayList<>();
+
+    /**
+     * 標籤參照
+     */
+    @Data
+    public static class TagRef {
+        private Long articleId;
+        private String name;
+        private String slug;
+    }
+}
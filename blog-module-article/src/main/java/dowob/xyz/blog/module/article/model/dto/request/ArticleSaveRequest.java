@@ -0,0 +1,45 @@
+package dowob.xyz.blog.module.article.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 文章新增/更新請求 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@Schema(description = "文章新增/更新請求")
+public class ArticleSaveRequest {
+    @Schema(description = "標題", example = "Hello World")
+    @NotBlank(message = "標題不能為空")
+    @Size(max = 200, message = "標題長度不能超過200字")
+    private String title;
+
+    @Schema(description = "URL Slug (留空時由標題產生)", example = "hello-world")
+    @Size(max = 250, message = "Slug 長度不能超過250字")
+    @Pattern(regexp = "^[\\p{L}\\p{N}]+(?:-[\\p{L}\\p{N}]+)*$", message = "Slug 只能包含文字、數字與連字號")
+    private String slug;
+
+    @Schema(description = "摘要")
+    @Size(max = 500, message = "摘要長度不能超過500字")
+    private String summary;
+
+    @Schema(description = "Markdown 內容")
+    @NotBlank(message = "內容不能為空")
+    private String contentMd;
+
+    @Schema(description = "封面圖片 URL")
+    @Size(max = 512, message = "封面圖片 URL 長度不能超過512字")
+    private String coverImageUrl;
+
+    @Schema(description = "標籤名稱 (不存在時自動建立)；更新時為 null 表示不變更標籤")
+    @Size(max = 50, message = "標籤數量過多")
+    private List<String> tags;
+}
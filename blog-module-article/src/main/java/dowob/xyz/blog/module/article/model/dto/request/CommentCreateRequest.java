@@ -0,0 +1,26 @@
+package dowob.xyz.blog.module.article.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * 留言新增請求 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@Schema(description = "留言新增請求")
+public class CommentCreateRequest {
+    @Schema(description = "留言內容")
+    @NotBlank(message = "留言內容不能為空")
+    @Size(max = 5000, message = "留言長度不能超過5000字")
+    private String content;
+
+    @Schema(description = "回覆的留言 UUID，頂層留言留空")
+    private UUID parentUuid;
+}
@@ -0,0 +1,74 @@
+package dowob.xyz.blog.module.article.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 文章詳情回應 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@Schema(description = "文章詳情")
+public class ArticleDetailResponse {
+    @Schema(description = "文章 UUID")
+    private UUID uuid;
+
+    @Schema(description = "作者 ID")
+    private Long authorId;
+
+    @Schema(description = "作者暱稱")
+    private String authorNickname;
+
+    @Schema(description = "作者頭貼 URL")
+    private String authorAvatarUrl;
+
+    @Schema(description = "標題")
+    private String title;
+
+    @Schema(description = "URL Slug")
+    private String slug;
+
+    @Schema(description = "摘要")
+    private String summary;
+
+    @Schema(description = "Markdown 內容")
+    private String contentMd;
+
+    @Schema(description = "已渲染並清洗的 HTML 內容 (非同步渲染完成前可能為空)")
+    private String contentHtml;
+
+    @Schema(description = "目錄 [{level, text, id}]", type = "array")
+    @JsonRawValue
+    private String toc;
+
+    @Schema(description = "預估閱讀時間 (分鐘)")
+    private Integer readingMinutes;
+
+    @Schema(description = "封面圖片 URL")
+    private String coverImageUrl;
+
+    @Schema(description = "瀏覽數")
+    private long viewCount;
+
+    @Schema(description = "按讚數")
+    private long likeCount;
+
+    @Schema(description = "留言數")
+    private int commentCount;
+
+    @Schema(description = "發布時間")
+    private LocalDateTime publishedAt;
+
+    @Schema(description = "更新時間")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "標籤")
+    private List<TagBriefResponse> tags;
+}
@@ -0,0 +1,57 @@
+package dowob.xyz.blog.module.article.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 留言回應 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "留言")
+public class CommentResponse {
+    @Schema(description = "UUID")
+    private UUID uuid;
+
+    @Schema(description = "父留言 UUID，頂層留言為 null")
+    private UUID parentUuid;
+
+    @Schema(description = "深度 (頂層為 0)")
+    private int depth;
+
+    @Schema(description = "留言者 ID，不可見時為 null")
+    private Long authorId;
+
+    @Schema(description = "留言者暱稱")
+    private String authorNickname;
+
+    @Schema(description = "留言者頭像 URL")
+    private String authorAvatarUrl;
+
+    @Schema(description = "內容，不可見時為 null")
+    private String content;
+
+    @Schema(description = "是否已刪除或已隱藏 (此時不回傳內容與作者)")
+    private boolean deleted;
+
+    @Schema(description = "建立時間")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "討論串回覆總數 (僅頂層留言)")
+    private Integer replyCount;
+
+    @Schema(description = "已載入的回覆 (巢狀)")
+    private List<CommentResponse> replies = new ArrayList<>();
+
+    @Schema(description = "載入其餘回覆的游標 (僅頂層留言且回覆未全部載入時)")
+    private String repliesCursor;
+}
@@ -0,0 +1,22 @@
+package dowob.xyz.blog.module.article.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 按讚狀態回應 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "按讚狀態")
+public class LikeStatusResponse {
+    @Schema(description = "目前用戶是否已按讚 (未登入時為 false)")
+    private boolean liked;
+
+    @Schema(description = "按讚數")
+    private long likeCount;
+}
@@ -0,0 +1,22 @@
+package dowob.xyz.blog.module.article.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 標籤簡要回應 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "標籤簡要資訊")
+public class TagBriefResponse {
+    @Schema(description = "名稱")
+    private String name;
+
+    @Schema(description = "Slug")
+    private String slug;
+}
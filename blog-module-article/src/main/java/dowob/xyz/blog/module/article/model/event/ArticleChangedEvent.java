@@ -0,0 +1,28 @@
+package dowob.xyz.blog.module.article.model.event;
+
+import java.util.Collection;
+
+/**
+ * 文章變更事件 (Spring 應用內事件)
+ * <p>
+ * 建立/更新/發布/刪除文章時於交易內發布，交易提交後用於失效快取。
+ * </p>
+ *
+ * @param articleId           文章 ID
+ * @param slugs               受影響的 Slug (更新 Slug 時包含新舊兩者)
+ * @param tagsOrStatusChanged 標籤或發布狀態是否可能改變 (標籤倒排索引只處理此類變更)
+ * @author Yuan
+ * @version 1.0
+ */
+public record ArticleChangedEvent(Long articleId, Collection<String> slugs, boolean tagsOrStatusChanged) {
+
+    /**
+     * 只影響內容或計數的變更 (留言數、渲染結果等)
+     *
+     * @param articleId 文章 ID
+     * @param slugs     受影響的 Slug
+     */
+    public ArticleChangedEvent(Long articleId, Collection<String> slugs) {
+        this(articleId, slugs, false);
+    }
+}
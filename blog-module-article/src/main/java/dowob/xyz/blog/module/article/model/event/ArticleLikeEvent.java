@@ -0,0 +1,17 @@
+package dowob.xyz.blog.module.article.model.event;
+
+/**
+ * 文章按讚變更事件 (RabbitMQ)
+ * <p>
+ * 只代表 (文章, 用戶) 的按讚狀態發生過變更；消費端以 Redis 集合的當前成員資格為準，
+ * 跨 Pod 的事件亂序不會造成錯誤結果，{@code liked} 僅在 Redis 集合不存在時作為後備。
+ * </p>
+ *
+ * @param articleId 文章 ID
+ * @param userId    用戶 ID
+ * @param liked     變更後是否為按讚
+ * @author Yuan
+ * @version 1.0
+ */
+public record ArticleLikeEvent(Long articleId, Long userId, boolean liked) {
+}
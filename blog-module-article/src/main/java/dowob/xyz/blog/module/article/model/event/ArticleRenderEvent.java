@@ -0,0 +1,11 @@
+package dowob.xyz.blog.module.article.model.event;
+
+/**
+ * 文章渲染請求 (應用內事件，非同步模式下於交易提交後轉送 RabbitMQ)
+ *
+ * @param articleId 文章 ID
+ * @author Yuan
+ * @version 1.0
+ */
+public record ArticleRenderEvent(Long articleId) {
+}
@@ -0,0 +1,17 @@
+package dowob.xyz.blog.module.article.model.event;
+
+/**
+ * 留言數變更事件 (RabbitMQ)
+ * <p>
+ * 留言新增、刪除或可見性變更時於交易提交後投遞，消費端依文章彙總增量後批次回寫；
+ * 重送或遺失造成的偏差由 {@code CommentCountVerifier} 定期修正。
+ * </p>
+ *
+ * @param articleId 文章 ID
+ * @param commentId 留言 ID
+ * @param delta     可見留言數增量 (+1 / -1)
+ * @author Yuan
+ * @version 1.0
+ */
+public record CommentCountEvent(Long articleId, Long commentId, int delta) {
+}
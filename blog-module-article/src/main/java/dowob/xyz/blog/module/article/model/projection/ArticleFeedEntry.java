@@ -0,0 +1,22 @@
+package dowob.xyz.blog.module.article.model.projection;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 首頁 Feed 計分所需欄位投影
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class ArticleFeedEntry {
+    private Long id;
+    private ArticleStatus status;
+    private LocalDateTime publishedAt;
+    private long viewCount;
+    private long likeCount;
+    private int commentCount;
+}
@@ -0,0 +1,22 @@
+package dowob.xyz.blog.module.article.model.projection;
+
+import lombok.Data;
+
+/**
+ * 文章按讚數投影 (依 article_likes 實際計算)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class ArticleLikeCount {
+    /**
+     * 文章 ID
+     */
+    private Long articleId;
+
+    /**
+     * 按讚數
+     */
+    private long likeCount;
+}
@@ -0,0 +1,37 @@
+package dowob.xyz.blog.module.article.model.projection;
+
+import lombok.Data;
+
+/**
+ * 文章渲染來源投影 (僅渲染所需欄位)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class ArticleRenderSource {
+    /**
+     * 文章 ID
+     */
+    private Long id;
+
+    /**
+     * Slug (渲染後失效快取用)
+     */
+    private String slug;
+
+    /**
+     * 目前摘要
+     */
+    private String summary;
+
+    /**
+     * Markdown 內容
+     */
+    private String contentMd;
+
+    /**
+     * 上次渲染時內容的雜湊
+     */
+    private String renderedHash;
+}
@@ -0,0 +1,28 @@
+package dowob.xyz.blog.module.article.model.projection;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 文章列表項投影 (不含內文)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class ArticleSummary {
+    private Long id;
+    private UUID uuid;
+    private Long authorId;
+    private String title;
+    private String slug;
+    private String summary;
+    private String coverImageUrl;
+    private Integer readingMinutes;
+    private long viewCount;
+    private long likeCount;
+    private int commentCount;
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,39 @@
+package dowob.xyz.blog.module.article.model.projection;
+
+import dowob.xyz.blog.common.api.enums.CommentStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 留言節點投影
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class CommentRow {
+    private Long id;
+    private UUID uuid;
+    private Long articleId;
+    private Long userId;
+    private Long parentId;
+    private UUID parentUuid;
+    private Long rootId;
+    private int depth;
+    private String path;
+    private String content;
+    private CommentStatus status;
+    private LocalDateTime createdAt;
+
+    /**
+     * 在討論串中的先序位置 (頂層留言為 0)，僅討論串查詢時有值
+     */
+    private int position;
+
+    /**
+     * 討論串回覆總數 (不含頂層留言)，僅討論串查詢時有值
+     */
+    private int threadReplyCount;
+}
@@ -0,0 +1,24 @@
+package dowob.xyz.blog.module.article.repository;
+
+import dowob.xyz.blog.module.article.model.Article;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 文章 Repository
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Repository
+public interface ArticleRepository extends CrudRepository<Article, Long> {
+    /**
+     * 透過 Slug 查詢文章
+     *
+     * @param slug Slug
+     * @return 文章 Optional
+     */
+    Optional<Article> findBySlug(String slug);
+}
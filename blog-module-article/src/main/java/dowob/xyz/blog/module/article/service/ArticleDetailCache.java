@@ -0,0 +1,323 @@
+package dowob.xyz.blog.module.article.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.cache.SingleFlight;
+import dowob.xyz.blog.module.article.config.ArticleCacheConfig;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.event.ArticleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 文章詳情多級快取 (本地 Caffeine + Redis JSON)
+ * <p>
+ * 讀取路徑：Slug 索引 (slug -> id) -> 本地快取 -> Redis -> DB。
+ * 本地層只保存少量最熱門的文章；Redis 層存放預先序列化的 JSON，讀取不需再組裝作者與標籤。
+ * </p>
+ * <ul>
+ *     <li>防擊穿：同 Pod 內以 {@link SingleFlight} 合併，跨 Pod 以 Redis SET NX 鎖確保只有一個回源，
+ *     其他 Pod 輪詢 Redis 等待結果，等待逾時才直接回源</li>
+ *     <li>失效：寫入方發布 {@link ArticleChangedEvent}，交易提交後刪除 Redis 條目並以 Pub/Sub
+ *     通知所有 Pod 清除本地條目，並延遲二次刪除以清掉並發回源寫回的舊資料</li>
+ *     <li>不存在的 Slug 以短 TTL 負快取，避免惡意請求穿透到 DB</li>
+ * </ul>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ArticleDetailCache implements MessageListener {
+
+    private static final String MISSING = "0";
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * 只刪除自己持有的鎖
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ArticleMapper articleMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final ArticleCacheConfig config;
+    private final Cache<Long, ArticleSnapshot> localCache;
+    private final Cache<String, Long> slugCache;
+    private final SingleFlight<Long, ArticleSnapshot> loadFlight;
+
+    public ArticleDetailCache(ArticleMapper articleMapper,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            TaskScheduler taskScheduler,
+            ArticleCacheConfig config,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.articleMapper = articleMapper;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.config = config;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaximumSize())
+                .expireAfterWrite(config.getLocalTtl())
+                .recordStats()
+                .build();
+        this.slugCache = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaximumSize() * 4)
+                .expireAfterWrite(config.getLocalTtl())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "article.detail.local");
+        this.loadFlight = new SingleFlight<>(meterRegistry, "article.detail.load");
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstant.ARTICLE_CACHE_INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 透過 Slug 取得文章快照
+     *
+     * @param slug 文章 Slug
+     * @return 快照，文章不存在時為 null
+     */
+    public ArticleSnapshot getBySlug(String slug) {
+        Long id = resolveSlug(slug);
+        return id == null ? null : getById(id);
+    }
+
+    /**
+     * 透過 ID 取得文章快照
+     *
+     * @param articleId 文章 ID
+     * @return 快照，文章不存在時為 null
+     */
+    public ArticleSnapshot getById(Long articleId) {
+        ArticleSnapshot snapshot = localCache.getIfPresent(articleId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        snapshot = readRedis(articleId);
+        if (snapshot == null) {
+            snapshot = loadFlight.execute(articleId, () -> rebuild(articleId));
+        }
+        if (snapshot != null) {
+            localCache.put(articleId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 批次取得文章快照 (本地 -> 單次 Redis MGET -> 逐筆回源)
+     *
+     * @param articleIds 文章 ID
+     * @return 與輸入同序的快照，不存在的文章為 null
+     */
+    public List<ArticleSnapshot> getAll(List<Long> articleIds) {
+        List<ArticleSnapshot> snapshots = new ArrayList<>(articleIds.size());
+        List<Integer> missingIndexes = new ArrayList<>();
+        for (Long articleId : articleIds) {
+            ArticleSnapshot snapshot = localCache.getIfPresent(articleId);
+            if (snapshot == null) {
+                missingIndexes.add(snapshots.size());
+            }
+            snapshots.add(snapshot);
+        }
+        if (missingIndexes.isEmpty()) {
+            return snapshots;
+        }
+
+        List<String> keys = missingIndexes.stream()
+                .map(i -> RedisKeyConstant.getArticleDetailKey(articleIds.get(i)))
+                .toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < missingIndexes.size(); i++) {
+            int index = missingIndexes.get(i);
+            Long articleId = articleIds.get(index);
+            ArticleSnapshot snapshot = values == null ? null : parse(articleId, values.get(i));
+            if (snapshot == null) {
+                snapshot = getById(articleId);
+            } else {
+                localCache.put(articleId, snapshot);
+            }
+            snapshots.set(index, snapshot);
+        }
+        return snapshots;
+    }
+
+    /**
+     * 交易提交後失效文章快取 (無交易時立即執行)
+     * <p>
+     * 延遲後再完整失效一次 (含廣播)：延遲期間以舊資料回填的 Redis 與各 Pod 本地快取一併清除。
+     * </p>
+     *
+     * @param event 文章變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event.articleId(), event.slugs());
+        taskScheduler.schedule(() -> invalidate(event.articleId(), event.slugs()),
+                Instant.now().plus(config.getDoubleDeleteDelay()));
+    }
+
+    /**
+     * 立即失效文章快取 (Redis + 所有 Pod 的本地快取)
+     *
+     * @param articleId 文章 ID
+     * @param slugs     相關 Slug
+     */
+    public void invalidate(Long articleId, Collection<String> slugs) {
+        try {
+            deleteRedis(articleId, slugs);
+            redisTemplate.convertAndSend(RedisKeyConstant.ARTICLE_CACHE_INVALIDATE_CHANNEL,
+                    articleId + "|" + String.join(",", slugs));
+        } catch (Exception e) {
+            log.error("Failed to invalidate article cache {} {}", articleId, slugs, e);
+        }
+        evictLocal(articleId, slugs);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        try {
+            Long articleId = Long.parseLong(separator < 0 ? body : body.substring(0, separator));
+            List<String> slugs = separator < 0 || separator == body.length() - 1
+                    ? List.of()
+                    : Arrays.asList(body.substring(separator + 1).split(","));
+            evictLocal(articleId, slugs);
+        } catch (NumberFormatException e) {
+            log.warn("Ignore malformed article invalidation message: {}", body);
+        }
+    }
+
+    private Long resolveSlug(String slug) {
+        Long cached = slugCache.getIfPresent(slug);
+        if (cached != null) {
+            return cached;
+        }
+        String key = RedisKeyConstant.getArticleSlugKey(slug);
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            Long id = articleMapper.findIdBySlug(slug);
+            value = id == null ? MISSING : String.valueOf(id);
+            redisTemplate.opsForValue().set(key, value, id == null ? config.getMissingTtl() : config.getRedisTtl());
+        }
+        if (MISSING.equals(value)) {
+            return null;
+        }
+        Long id = Long.valueOf(value);
+        slugCache.put(slug, id);
+        return id;
+    }
+
+    private ArticleSnapshot rebuild(Long articleId) {
+        // 等待期間其他請求可能已完成重建
+        ArticleSnapshot snapshot = readRedis(articleId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        String lockKey = RedisKeyConstant.getArticleDetailLockKey(articleId);
+        String token = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, config.getLockTimeout()))) {
+            try {
+                snapshot = loadFromDb(articleId);
+                if (snapshot != null) {
+                    redisTemplate.opsForValue().set(RedisKeyConstant.getArticleDetailKey(articleId),
+                            serialize(snapshot), config.getRedisTtl());
+                }
+                return snapshot;
+            } finally {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+            }
+        }
+
+        // 其他 Pod 正在重建，輪詢等待結果
+        long deadline = System.nanoTime() + config.getLockTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+            snapshot = readRedis(articleId);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                break;
+            }
+        }
+        return loadFromDb(articleId);
+    }
+
+    private ArticleSnapshot loadFromDb(Long articleId) {
+        ArticleSnapshot snapshot = articleMapper.findSnapshotById(articleId);
+        if (snapshot != null) {
+            snapshot.setTags(new ArrayList<>(articleMapper.findTagRefs(List.of(articleId))));
+        }
+        return snapshot;
+    }
+
+    private ArticleSnapshot readRedis(Long articleId) {
+        return parse(articleId, redisTemplate.opsForValue().get(RedisKeyConstant.getArticleDetailKey(articleId)));
+    }
+
+    private ArticleSnapshot parse(Long articleId, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ArticleSnapshot.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Discard unreadable article cache entry {}: {}", articleId, e.getMessage());
+            redisTemplate.delete(RedisKeyConstant.getArticleDetailKey(articleId));
+            return null;
+        }
+    }
+
+    private String serialize(ArticleSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize article snapshot " + snapshot.getId(), e);
+        }
+    }
+
+    private void deleteRedis(Long articleId, Collection<String> slugs) {
+        List<String> keys = new ArrayList<>(slugs.size() + 1);
+        keys.add(RedisKeyConstant.getArticleDetailKey(articleId));
+        slugs.forEach(slug -> keys.add(RedisKeyConstant.getArticleSlugKey(slug)));
+        redisTemplate.delete(keys);
+    }
+
+    private void evictLocal(Long articleId, Collection<String> slugs) {
+        localCache.invalidate(articleId);
+        slugCache.invalidateAll(slugs);
+    }
+}
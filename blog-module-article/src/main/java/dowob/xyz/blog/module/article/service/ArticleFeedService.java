@@ -0,0 +1,344 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import dowob.xyz.blog.common.api.response.CursorPageResult;
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.pagination.CursorCodec;
+import dowob.xyz.blog.infrastructure.user.UserProfileLoader;
+import dowob.xyz.blog.infrastructure.user.UserProfileService.UserProfile;
+import dowob.xyz.blog.module.article.config.ArticleFeedConfig;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.dto.response.ArticleSummaryResponse;
+import dowob.xyz.blog.module.article.model.dto.response.TagBriefResponse;
+import dowob.xyz.blog.module.article.model.event.ArticleChangedEvent;
+import dowob.xyz.blog.module.article.model.projection.ArticleFeedEntry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 首頁 Feed (Redis ZSet)
+ * <p>
+ * 最新 Feed 以發布時間為分數，熱門 Feed 以時間衰減熱度為分數：
+ * {@code log10(max(1, 瀏覽*w1 + 按讚*w2 + 留言*w3)) + 發布 epoch 秒 / decaySeconds}，
+ * 互動量每多一個數量級，相當於晚 decaySeconds 秒發布。
+ * 讀取只需 ZREVRANGE 取 ID，再由 {@link ArticleDetailCache#getAll} 批次取快照，不查 DB。
+ * </p>
+ * <ul>
+ *     <li>文章變更 (發布/更新/刪除) 提交後更新或移除成員</li>
+ *     <li>熱門分數定期以近期文章的計數重算</li>
+ *     <li>{@link #rebuild()} 從 Postgres 分批串流重建到暫存 Key，完成後以 RENAME 原子替換</li>
+ * </ul>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleFeedService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * 只刪除自己持有的鎖 (重建超過鎖期限時，不會刪掉下一個持有者的鎖)
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ArticleMapper articleMapper;
+    private final ArticleDetailCache articleDetailCache;
+    private final StringRedisTemplate redisTemplate;
+    private final CursorCodec cursorCodec;
+    private final ArticleFeedConfig config;
+    private final UserProfileLoader userProfileLoader;
+
+    /**
+     * 讀取 Feed
+     *
+     * @param type     Feed 種類
+     * @param cursor   上一頁回傳的游標，null 表示第一頁
+     * @param pageSize 每頁數量
+     * @return 游標分頁結果
+     */
+    public CursorPageResult<ArticleSummaryResponse> read(FeedType type, String cursor, int pageSize) {
+        String scope = "feed:" + type.name();
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        long offset = StringUtils.hasText(cursor) ? Long.parseLong(cursorCodec.decode(scope, cursor, 1).get(0)) : 0;
+
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(type.getKey(), offset, offset + size);
+        List<Long> ids = members == null ? List.of() : members.stream().map(Long::valueOf).toList();
+        boolean hasMore = ids.size() > size;
+        List<Long> pageIds = hasMore ? ids.subList(0, size) : ids;
+
+        List<ArticleSnapshot> snapshots = articleDetailCache.getAll(pageIds);
+        snapshots.stream().filter(Objects::nonNull).forEach(snapshot -> userProfileLoader.register(snapshot.getAuthorId()));
+        List<ArticleSummaryResponse> list = new ArrayList<>(snapshots.size());
+        for (int i = 0; i < snapshots.size(); i++) {
+            ArticleSnapshot snapshot = snapshots.get(i);
+            if (snapshot == null || snapshot.getStatus() != ArticleStatus.PUBLISHED) {
+                // 成員已過時 (例如失效事件遺失)，順手移除
+                remove(pageIds.get(i));
+                continue;
+            }
+            list.add(toSummary(snapshot));
+        }
+
+        String nextCursor = hasMore ? cursorCodec.encode(scope, String.valueOf(offset + size)) : null;
+        return CursorPageResult.of(size, nextCursor, list);
+    }
+
+    /**
+     * 文章變更提交後更新 Feed 成員
+     *
+     * @param event 文章變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            List<ArticleFeedEntry> entries = articleMapper.findFeedEntries(List.of(event.articleId()));
+            if (entries.isEmpty() || entries.get(0).getStatus() != ArticleStatus.PUBLISHED) {
+                remove(event.articleId());
+            } else {
+                upsert(entries);
+            }
+        } catch (Exception e) {
+            log.error("Failed to update feed for article {}", event.articleId(), e);
+        }
+    }
+
+    /**
+     * 啟動時若 Feed 不存在 (首次部署或 Redis 清空) 則重建
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyConstant.ARTICLE_FEED_LATEST_KEY))) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Feed rebuild on startup failed", e);
+        }
+    }
+
+    /**
+     * 定期以近期文章的最新計數重算熱門分數
+     */
+    @Scheduled(fixedDelayString = "${article.feed.popular-refresh-interval:300000}",
+            initialDelayString = "${article.feed.popular-refresh-interval:300000}")
+    public void refreshPopular() {
+        String token = tryLock();
+        if (token == null) {
+            return;
+        }
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(config.getPopularWindow());
+            long afterId = 0;
+            List<ArticleFeedEntry> batch;
+            do {
+                batch = articleMapper.findPublishedFeedBatch(since, afterId, config.getRebuildBatchSize());
+                if (!batch.isEmpty()) {
+                    redisTemplate.opsForZSet().add(RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY, popularTuples(batch));
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == config.getRebuildBatchSize());
+            trim(RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY, config.getPopularMaxSize());
+        } finally {
+            unlock(token);
+        }
+    }
+
+    /**
+     * 從 Postgres 重建兩個 Feed (分批串流至暫存 Key，完成後原子替換)
+     *
+     * @return 重建的文章數，已有其他重建在執行時為 -1
+     */
+    public long rebuild() {
+        String token = tryLock();
+        if (token == null) {
+            return -1;
+        }
+        String suffix = ":rebuild:" + UUID.randomUUID();
+        String latestTemp = RedisKeyConstant.ARTICLE_FEED_LATEST_KEY + suffix;
+        String popularTemp = RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY + suffix;
+        long started = System.nanoTime();
+        long total = 0;
+        try {
+            long afterId = 0;
+            List<ArticleFeedEntry> batch;
+            do {
+                batch = articleMapper.findPublishedFeedBatch(null, afterId, config.getRebuildBatchSize());
+                if (!batch.isEmpty()) {
+                    redisTemplate.opsForZSet().add(latestTemp, latestTuples(batch));
+                    redisTemplate.opsForZSet().add(popularTemp, popularTuples(batch));
+                    afterId = batch.get(batch.size() - 1).getId();
+                    total += batch.size();
+                }
+            } while (batch.size() == config.getRebuildBatchSize());
+
+            trim(latestTemp, config.getLatestMaxSize());
+            trim(popularTemp, config.getPopularMaxSize());
+            replace(latestTemp, RedisKeyConstant.ARTICLE_FEED_LATEST_KEY);
+            replace(popularTemp, RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY);
+            log.info("Rebuilt article feeds with {} articles in {} ms", total,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+            return total;
+        } catch (RuntimeException e) {
+            redisTemplate.delete(List.of(latestTemp, popularTemp));
+            throw e;
+        } finally {
+            unlock(token);
+        }
+    }
+
+    private void upsert(List<ArticleFeedEntry> entries) {
+        redisTemplate.opsForZSet().add(RedisKeyConstant.ARTICLE_FEED_LATEST_KEY, latestTuples(entries));
+        redisTemplate.opsForZSet().add(RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY, popularTuples(entries));
+        trim(RedisKeyConstant.ARTICLE_FEED_LATEST_KEY, config.getLatestMaxSize());
+        trim(RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY, config.getPopularMaxSize());
+    }
+
+    private void remove(Long articleId) {
+        String member = String.valueOf(articleId);
+        redisTemplate.opsForZSet().remove(RedisKeyConstant.ARTICLE_FEED_LATEST_KEY, member);
+        redisTemplate.opsForZSet().remove(RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY, member);
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> latestTuples(List<ArticleFeedEntry> entries) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (ArticleFeedEntry entry : entries) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(entry.getId()), (double) epochSeconds(entry)));
+        }
+        return tuples;
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> popularTuples(List<ArticleFeedEntry> entries) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (ArticleFeedEntry entry : entries) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(entry.getId()), hotScore(entry)));
+        }
+        return tuples;
+    }
+
+    /**
+     * 時間衰減熱度分數
+     *
+     * @param entry 計分欄位
+     * @return 分數
+     */
+    double hotScore(ArticleFeedEntry entry) {
+        double engagement = entry.getViewCount() * config.getViewWeight()
+                + entry.getLikeCount() * config.getLikeWeight()
+                + entry.getCommentCount() * config.getCommentWeight();
+        return Math.log10(Math.max(1, engagement)) + (double) epochSeconds(entry) / config.getDecaySeconds();
+    }
+
+    private static long epochSeconds(ArticleFeedEntry entry) {
+        LocalDateTime publishedAt = entry.getPublishedAt() == null ? LocalDateTime.now() : entry.getPublishedAt();
+        return publishedAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    /**
+     * 只保留分數最高的 maxSize 個成員
+     */
+    private void trim(String key, long maxSize) {
+        redisTemplate.opsForZSet().removeRange(key, 0, -maxSize - 1);
+    }
+
+    private void replace(String tempKey, String key) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(tempKey))) {
+            redisTemplate.rename(tempKey, key);
+        } else {
+            redisTemplate.delete(key);
+        }
+    }
+
+    /**
+     * 取得 Feed 重建鎖
+     *
+     * @return 持有者 Token，鎖已被占用時為 null
+     */
+    private String tryLock() {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(RedisKeyConstant.ARTICLE_FEED_LOCK, token, Duration.ofMinutes(10))) ? token : null;
+    }
+
+    private void unlock(String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(RedisKeyConstant.ARTICLE_FEED_LOCK), token);
+    }
+
+    /**
+     * 快照轉為列表項 (作者需先以 {@link UserProfileLoader#register} 登記)
+     *
+     * @param snapshot 文章快照
+     * @return 列表項
+     */
+    ArticleSummaryResponse toSummary(ArticleSnapshot snapshot) {
+        ArticleSummaryResponse response = new ArticleSummaryResponse();
+        response.setUuid(snapshot.getUuid());
+        response.setAuthorId(snapshot.getAuthorId());
+        UserProfile author = userProfileLoader.get(snapshot.getAuthorId());
+        if (author != null) {
+            response.setAuthorNickname(author.nickname());
+            response.setAuthorAvatarUrl(author.avatarUrl());
+        }
+        response.setTitle(snapshot.getTitle());
+        response.setSlug(snapshot.getSlug());
+        response.setSummary(snapshot.getSummary());
+        response.setCoverImageUrl(snapshot.getCoverImageUrl());
+        response.setReadingMinutes(snapshot.getReadingMinutes());
+        response.setViewCount(snapshot.getViewCount());
+        response.setLikeCount(snapshot.getLikeCount());
+        response.setCommentCount(snapshot.getCommentCount());
+        response.setPublishedAt(snapshot.getPublishedAt());
+        response.setTags(snapshot.getTags().stream()
+                .map(tag -> new TagBriefResponse(tag.getName(), tag.getSlug()))
+                .toList());
+        return response;
+    }
+
+    /**
+     * Feed 種類
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum FeedType {
+        /**
+         * 最新
+         */
+        LATEST(RedisKeyConstant.ARTICLE_FEED_LATEST_KEY),
+
+        /**
+         * 熱門
+         */
+        POPULAR(RedisKeyConstant.ARTICLE_FEED_POPULAR_KEY);
+
+        private final String key;
+    }
+}
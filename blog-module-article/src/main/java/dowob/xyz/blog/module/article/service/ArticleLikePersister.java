@@ -0,0 +1,78 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.module.article.mapper.ArticleLikeMapper;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.event.ArticleLikeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 按讚事件批次落地
+ * <p>
+ * 同一批內的事件依 (文章, 用戶) 合併，最終狀態以 Redis 集合當下的成員資格為準，
+ * 再以一條 INSERT ... ON CONFLICT DO NOTHING、一條 DELETE 與一條 like_count 重算完成整批寫入。
+ * 寫入前先依文章 ID 順序鎖定文章列 ({@link ArticleMapper#lockByIds})，與瀏覽數、留言數等批次更新不會互相死鎖。
+ * 文章已刪除時 Redis 集合不存在，成員資格退回事件本身，新增時會略過已不存在的文章。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleLikePersister {
+
+    private final ArticleLikeMapper articleLikeMapper;
+    private final ArticleMapper articleMapper;
+    private final ArticleLikeStore articleLikeStore;
+
+    /**
+     * 落地一批按讚事件
+     *
+     * @param events 事件 (可能重複或亂序)
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void persist(List<ArticleLikeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<String, ArticleLikeEvent> collapsed = new LinkedHashMap<>();
+        for (ArticleLikeEvent event : events) {
+            collapsed.put(event.articleId() + ":" + event.userId(), event);
+        }
+        List<ArticleLikeEvent> pairs = new ArrayList<>(collapsed.values());
+        List<Boolean> membership = articleLikeStore.membership(pairs);
+
+        List<ArticleLikeEvent> inserts = new ArrayList<>();
+        List<ArticleLikeEvent> deletes = new ArrayList<>();
+        Set<Long> articleIds = new TreeSet<>();
+        for (int i = 0; i < pairs.size(); i++) {
+            ArticleLikeEvent event = pairs.get(i);
+            boolean liked = membership.get(i) != null ? membership.get(i) : event.liked();
+            (liked ? inserts : deletes).add(event);
+            articleIds.add(event.articleId());
+        }
+
+        // 新增按讚時外鍵檢查會對文章列加共享鎖，因此在任何寫入之前先依 ID 順序鎖定
+        articleMapper.lockByIds(articleIds);
+        if (!inserts.isEmpty()) {
+            articleLikeMapper.insertIgnore(inserts);
+        }
+        if (!deletes.isEmpty()) {
+            articleLikeMapper.deleteBatch(deletes);
+        }
+        articleLikeMapper.refreshLikeCounts(articleIds);
+        log.debug("Persisted {} like events ({} inserts, {} deletes) for {} articles",
+                events.size(), inserts.size(), deletes.size(), articleIds.size());
+    }
+}
@@ -0,0 +1,147 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.module.article.config.ArticleLikeConfig;
+import dowob.xyz.blog.module.article.mapper.ArticleLikeMapper;
+import dowob.xyz.blog.module.article.model.projection.ArticleLikeCount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 按讚數對帳
+ * <p>
+ * 定期執行 (多 Pod 以 Redis 鎖確保同時只有一個執行)：
+ * </p>
+ * <ol>
+ *     <li>依 ID 區間修正 articles.like_count 與 article_likes 實際筆數不一致的文章</li>
+ *     <li>掃描 Redis 按讚集合，與 article_likes 比對；不一致的文章先記錄，
+ *     若下一輪仍以相同數值不一致 (排除仍在佇列中的事件) 則刪除集合，下次存取時由 DB 重新載入</li>
+ * </ol>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ArticleLikeReconciler {
+
+    private final ArticleLikeMapper articleLikeMapper;
+    private final ArticleLikeStore articleLikeStore;
+    private final StringRedisTemplate redisTemplate;
+    private final ArticleLikeConfig config;
+    private final Counter dbRepairs;
+    private final Counter cacheRepairs;
+
+    public ArticleLikeReconciler(ArticleLikeMapper articleLikeMapper,
+            ArticleLikeStore articleLikeStore,
+            StringRedisTemplate redisTemplate,
+            ArticleLikeConfig config,
+            MeterRegistry meterRegistry) {
+        this.articleLikeMapper = articleLikeMapper;
+        this.articleLikeStore = articleLikeStore;
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+        this.dbRepairs = meterRegistry.counter("article.likes.reconcile.repaired", "target", "db");
+        this.cacheRepairs = meterRegistry.counter("article.likes.reconcile.repaired", "target", "redis");
+    }
+
+    @Scheduled(fixedDelayString = "${article.like.reconcile-interval:600000}",
+            initialDelayString = "${article.like.reconcile-interval:600000}")
+    public void reconcile() {
+        Duration lockTtl = Duration.ofMillis(config.getReconcileInterval());
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(RedisKeyConstant.ARTICLE_LIKES_RECONCILE_LOCK, "1", lockTtl))) {
+            return;
+        }
+        try {
+            reconcileDatabase();
+            reconcileCache();
+        } catch (Exception e) {
+            log.error("Article like reconciliation failed", e);
+        }
+    }
+
+    private void reconcileDatabase() {
+        long maxId = articleLikeMapper.maxArticleId();
+        int step = config.getReconcileBatchSize();
+        long repaired = 0;
+        for (long from = 1; from <= maxId; from += step) {
+            repaired += articleLikeMapper.reconcileLikeCounts(from, from + step - 1);
+        }
+        if (repaired > 0) {
+            dbRepairs.increment(repaired);
+            log.warn("Repaired like_count for {} articles", repaired);
+        }
+    }
+
+    private void reconcileCache() {
+        List<Long> batch = new ArrayList<>(config.getReconcileBatchSize());
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeyConstant.ARTICLE_LIKES_KEY_PREFIX + "*")
+                .count(config.getReconcileBatchSize())
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String suffix = cursor.next().substring(RedisKeyConstant.ARTICLE_LIKES_KEY_PREFIX.length());
+                try {
+                    batch.add(Long.parseLong(suffix));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (batch.size() >= config.getReconcileBatchSize()) {
+                    compare(batch);
+                    batch.clear();
+                }
+            }
+        }
+        compare(batch);
+        redisTemplate.expire(RedisKeyConstant.ARTICLE_LIKES_DRIFT_KEY, Duration.ofMillis(config.getReconcileInterval() * 3));
+    }
+
+    private void compare(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        List<Long> cached = articleLikeStore.counts(articleIds);
+        Map<Long, Long> actual = new HashMap<>();
+        for (ArticleLikeCount count : articleLikeMapper.countByArticleIds(articleIds)) {
+            actual.put(count.getArticleId(), count.getLikeCount());
+        }
+        List<Object> previous = redisTemplate.opsForHash().multiGet(RedisKeyConstant.ARTICLE_LIKES_DRIFT_KEY,
+                articleIds.stream().map(id -> (Object) String.valueOf(id)).toList());
+
+        for (int i = 0; i < articleIds.size(); i++) {
+            Long articleId = articleIds.get(i);
+            Long cachedCount = cached.get(i);
+            String field = String.valueOf(articleId);
+            if (cachedCount == null || cachedCount.equals(actual.getOrDefault(articleId, 0L))) {
+                if (previous.get(i) != null) {
+                    redisTemplate.opsForHash().delete(RedisKeyConstant.ARTICLE_LIKES_DRIFT_KEY, field);
+                }
+                continue;
+            }
+            if (Objects.equals(previous.get(i), String.valueOf(cachedCount))) {
+                articleLikeStore.delete(articleId);
+                redisTemplate.opsForHash().delete(RedisKeyConstant.ARTICLE_LIKES_DRIFT_KEY, field);
+                cacheRepairs.increment();
+                log.warn("Dropped drifted like set for article {} (redis={}, db={})",
+                        articleId, cachedCount, actual.getOrDefault(articleId, 0L));
+            } else {
+                redisTemplate.opsForHash().put(RedisKeyConstant.ARTICLE_LIKES_DRIFT_KEY, field, String.valueOf(cachedCount));
+            }
+        }
+    }
+}
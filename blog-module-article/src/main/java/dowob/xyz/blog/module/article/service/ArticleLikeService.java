@@ -0,0 +1,141 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import dowob.xyz.blog.common.api.errorcode.ArticleErrorCode;
+import dowob.xyz.blog.common.api.errorcode.CommonErrorCode;
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.cache.SingleFlight;
+import dowob.xyz.blog.module.article.mapper.ArticleLikeMapper;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.dto.response.LikeStatusResponse;
+import dowob.xyz.blog.module.article.model.event.ArticleLikeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 文章按讚服務
+ * <p>
+ * 「是否已按讚」與按讚數皆由 Redis 集合 ({@link ArticleLikeStore}) 即時回答，
+ * 點擊時只寫 Redis 並發送 {@link ArticleLikeEvent}；article_likes 與 like_count
+ * 由 {@link ArticleLikePersister} 批次非同步落地，漂移由 {@link ArticleLikeReconciler} 修復。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class ArticleLikeService {
+
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleLikeMapper articleLikeMapper;
+    private final ArticleLikeStore articleLikeStore;
+    private final RabbitTemplate rabbitTemplate;
+    private final SingleFlight<Long, Boolean> loadFlight;
+
+    public ArticleLikeService(ArticleDetailCache articleDetailCache,
+            ArticleLikeMapper articleLikeMapper,
+            ArticleLikeStore articleLikeStore,
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry) {
+        this.articleDetailCache = articleDetailCache;
+        this.articleLikeMapper = articleLikeMapper;
+        this.articleLikeStore = articleLikeStore;
+        this.rabbitTemplate = rabbitTemplate;
+        this.loadFlight = new SingleFlight<>(meterRegistry, "article.likes.load");
+    }
+
+    /**
+     * 按讚
+     *
+     * @param slug   文章 Slug
+     * @param userId 用戶 ID
+     * @return 按讚後狀態
+     */
+    public LikeStatusResponse like(String slug, Long userId) {
+        return change(requirePublished(slug), userId, true);
+    }
+
+    /**
+     * 取消按讚
+     *
+     * @param slug   文章 Slug
+     * @param userId 用戶 ID
+     * @return 取消後狀態
+     */
+    public LikeStatusResponse unlike(String slug, Long userId) {
+        return change(requirePublished(slug), userId, false);
+    }
+
+    /**
+     * 查詢按讚狀態
+     *
+     * @param slug   文章 Slug
+     * @param userId 用戶 ID，未登入時為 null
+     * @return 按讚狀態
+     */
+    public LikeStatusResponse status(String slug, Long userId) {
+        Long articleId = requirePublished(slug).getId();
+        ArticleLikeStore.LikeState state = articleLikeStore.find(articleId, userId);
+        if (state == null) {
+            ensureLoaded(articleId);
+            state = articleLikeStore.find(articleId, userId);
+        }
+        return state == null ? new LikeStatusResponse(false, 0) : new LikeStatusResponse(state.liked(), state.likeCount());
+    }
+
+    /**
+     * 取得按讚數 (Redis 集合已載入時取即時值，否則使用 DB 的 like_count，不觸發載入)
+     *
+     * @param articleId 文章 ID
+     * @param fallback  DB 中的 like_count
+     * @return 按讚數
+     */
+    public long likeCount(Long articleId, long fallback) {
+        ArticleLikeStore.LikeState state = articleLikeStore.find(articleId, null);
+        return state == null ? fallback : state.likeCount();
+    }
+
+    private LikeStatusResponse change(ArticleSnapshot article, Long userId, boolean liked) {
+        Long articleId = article.getId();
+        long result = articleLikeStore.apply(articleId, userId, liked);
+        if (result == ArticleLikeStore.NOT_LOADED) {
+            ensureLoaded(articleId);
+            result = articleLikeStore.apply(articleId, userId, liked);
+        }
+
+        if (result == 1) {
+            ArticleLikeEvent event = new ArticleLikeEvent(articleId, userId, liked);
+            try {
+                rabbitTemplate.convertAndSend(MqConstant.ARTICLE_EXCHANGE, MqConstant.ARTICLE_LIKE_ROUTING_KEY, event);
+            } catch (AmqpException e) {
+                // 事件無法落地時還原 Redis，避免快取與 DB 長期不一致
+                articleLikeStore.apply(articleId, userId, !liked);
+                log.error("Failed to publish like event {}, reverted", event, e);
+                throw new BusinessException(CommonErrorCode.SYSTEM_BUSY);
+            }
+        }
+
+        ArticleLikeStore.LikeState state = articleLikeStore.find(articleId, userId);
+        return new LikeStatusResponse(liked, state == null ? article.getLikeCount() : state.likeCount());
+    }
+
+    private void ensureLoaded(Long articleId) {
+        loadFlight.execute(articleId, () -> {
+            articleLikeStore.load(articleId, articleLikeMapper.findUserIdsByArticleId(articleId));
+            return Boolean.TRUE;
+        });
+    }
+
+    private ArticleSnapshot requirePublished(String slug) {
+        ArticleSnapshot article = articleDetailCache.getBySlug(slug);
+        if (article == null || article.getStatus() != ArticleStatus.PUBLISHED) {
+            throw new BusinessException(ArticleErrorCode.ARTICLE_NOT_FOUND);
+        }
+        return article;
+    }
+}
@@ -0,0 +1,203 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.module.article.config.ArticleLikeConfig;
+import dowob.xyz.blog.module.article.model.event.ArticleLikeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 文章按讚 Redis 集合存取 (Set article:likes:{articleId})
+ * <p>
+ * 集合成員為按讚的用戶 ID，另含哨兵成員 {@code "0"} 表示「已由 DB 載入」，
+ * 讓空集合與未載入可以區分；按讚數即 {@code SCARD - 1}。
+ * 寫入皆以 Lua 腳本在集合已載入時才執行，未載入時由呼叫方先 {@link #load}。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleLikeStore {
+
+    /**
+     * 結果：集合尚未載入
+     */
+    public static final long NOT_LOADED = -1;
+
+    /**
+     * 集合存在時 SADD/SREM 並刷新 TTL；回傳 -1 (未載入) / 0 (狀態未變) / 1 (已變更)
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local changed
+            if ARGV[1] == '1' then
+                changed = redis.call('SADD', KEYS[1], ARGV[2])
+            else
+                changed = redis.call('SREM', KEYS[1], ARGV[2])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return changed
+            """, Long.class);
+
+    /**
+     * 暫存集合改名為正式集合 (正式集合已存在時放棄，避免覆蓋較新的寫入)
+     */
+    private static final RedisScript<Long> PUBLISH_LOAD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ArticleLikeConfig config;
+
+    /**
+     * 變更按讚狀態
+     *
+     * @param articleId 文章 ID
+     * @param userId    用戶 ID
+     * @param liked     true 按讚 / false 取消
+     * @return {@link #NOT_LOADED}、0 (狀態未變) 或 1 (已變更)
+     */
+    public long apply(Long articleId, Long userId, boolean liked) {
+        Long result = redisTemplate.execute(APPLY_SCRIPT, List.of(RedisKeyConstant.getArticleLikesKey(articleId)),
+                liked ? "1" : "0", String.valueOf(userId), ttlMillis());
+        return result == null ? NOT_LOADED : result;
+    }
+
+    /**
+     * 由 DB 資料建立集合 (先寫入暫存 Key 再原子改名，讀取端不會看到載入一半的集合)
+     *
+     * @param articleId 文章 ID
+     * @param userIds   按讚用戶 ID
+     */
+    public void load(Long articleId, Collection<Long> userIds) {
+        String tempKey = RedisKeyConstant.ARTICLE_LIKES_LOAD_KEY_PREFIX + articleId + ":" + UUID.randomUUID();
+        List<String> members = new ArrayList<>(userIds.size() + 1);
+        members.add(RedisKeyConstant.ARTICLE_LIKES_SENTINEL);
+        userIds.forEach(id -> members.add(String.valueOf(id)));
+
+        byte[] rawTempKey = tempKey.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < members.size(); from += LOAD_CHUNK_SIZE) {
+                byte[][] chunk = members.subList(from, Math.min(from + LOAD_CHUNK_SIZE, members.size())).stream()
+                        .map(member -> member.getBytes(StandardCharsets.UTF_8))
+                        .toArray(byte[][]::new);
+                connection.setCommands().sAdd(rawTempKey, chunk);
+            }
+            // 暫存 Key 的保底過期，避免改名前失敗留下垃圾
+            connection.keyCommands().expire(rawTempKey, 60);
+            return null;
+        });
+        redisTemplate.execute(PUBLISH_LOAD_SCRIPT,
+                List.of(tempKey, RedisKeyConstant.getArticleLikesKey(articleId)), ttlMillis());
+    }
+
+    /**
+     * 查詢按讚狀態 (單次 Pipeline：SISMEMBER + SCARD)
+     *
+     * @param articleId 文章 ID
+     * @param userId    用戶 ID，未登入時為 null
+     * @return 按讚狀態，集合未載入時為 null
+     */
+    public LikeState find(Long articleId, Long userId) {
+        String key = RedisKeyConstant.getArticleLikesKey(articleId);
+        String member = userId == null ? RedisKeyConstant.ARTICLE_LIKES_SENTINEL : String.valueOf(userId);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            connection.setCommands().sIsMember(rawKey, member.getBytes(StandardCharsets.UTF_8));
+            connection.setCommands().sCard(rawKey);
+            return null;
+        });
+        long size = results.get(1) == null ? 0 : (Long) results.get(1);
+        if (size == 0) {
+            return null;
+        }
+        boolean liked = userId != null && Boolean.TRUE.equals(results.get(0));
+        return new LikeState(liked, size - 1);
+    }
+
+    /**
+     * 批次查詢 (文章, 用戶) 的當前成員資格
+     *
+     * @param likes 事件列表
+     * @return 與輸入同序的成員資格，集合未載入的項目為 null
+     */
+    public List<Boolean> membership(List<ArticleLikeEvent> likes) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ArticleLikeEvent like : likes) {
+                connection.setCommands().sMIsMember(
+                        RedisKeyConstant.getArticleLikesKey(like.articleId()).getBytes(StandardCharsets.UTF_8),
+                        RedisKeyConstant.ARTICLE_LIKES_SENTINEL.getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(like.userId()).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        List<Boolean> membership = new ArrayList<>(likes.size());
+        for (Object result : results) {
+            List<?> flags = (List<?>) result;
+            boolean loaded = Boolean.TRUE.equals(flags.get(0));
+            membership.add(loaded ? Boolean.TRUE.equals(flags.get(1)) : null);
+        }
+        return membership;
+    }
+
+    /**
+     * 批次查詢集合大小 (SCARD)
+     *
+     * @param articleIds 文章 ID
+     * @return 與輸入同序的按讚數，集合不存在時為 null
+     */
+    public List<Long> counts(List<Long> articleIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            articleIds.forEach(id -> connection.setCommands()
+                    .sCard(RedisKeyConstant.getArticleLikesKey(id).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+        List<Long> counts = new ArrayList<>(articleIds.size());
+        for (Object result : results) {
+            long size = result == null ? 0 : (Long) result;
+            counts.add(size == 0 ? null : size - 1);
+        }
+        return counts;
+    }
+
+    /**
+     * 刪除集合 (下次存取時重新由 DB 載入)
+     *
+     * @param articleId 文章 ID
+     */
+    public void delete(Long articleId) {
+        redisTemplate.delete(RedisKeyConstant.getArticleLikesKey(articleId));
+    }
+
+    private String ttlMillis() {
+        return String.valueOf(config.getCacheTtl().toMillis());
+    }
+
+    /**
+     * 按讚狀態
+     *
+     * @param liked     用戶是否已按讚
+     * @param likeCount 按讚數
+     */
+    public record LikeState(boolean liked, long likeCount) {
+    }
+}
@@ -0,0 +1,155 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.api.response.CursorPageResult;
+import dowob.xyz.blog.common.api.response.PageResult;
+import dowob.xyz.blog.infrastructure.pagination.Count;
+import dowob.xyz.blog.infrastructure.pagination.CountProvider;
+import dowob.xyz.blog.infrastructure.pagination.CursorCodec;
+import dowob.xyz.blog.infrastructure.user.UserProfileLoader;
+import dowob.xyz.blog.infrastructure.user.UserProfileService.UserProfile;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.dto.response.ArticleSummaryResponse;
+import dowob.xyz.blog.module.article.model.dto.response.TagBriefResponse;
+import dowob.xyz.blog.module.article.model.projection.ArticleSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 文章列表查詢服務
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleQueryService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final ArticleMapper articleMapper;
+    private final CursorCodec cursorCodec;
+    private final CountProvider countProvider;
+    private final UserProfileLoader userProfileLoader;
+
+    /**
+     * 以游標分頁查詢已發布文章 (新到舊)
+     *
+     * @param tagSlug   標籤 Slug，null 表示全部
+     * @param cursor    上一頁回傳的游標，null 表示第一頁
+     * @param pageSize  每頁數量
+     * @param withTotal 是否計算總數
+     * @return 游標分頁結果
+     */
+    public CursorPageResult<ArticleSummaryResponse> listPublished(String tagSlug, String cursor, int pageSize,
+            boolean withTotal) {
+        String tag = StringUtils.hasText(tagSlug) ? tagSlug : null;
+        String scope = tag == null ? "articles" : "articles:tag=" + tag;
+        int size = clampPageSize(pageSize);
+
+        LocalDateTime afterPublishedAt = null;
+        Long afterId = null;
+        if (StringUtils.hasText(cursor)) {
+            List<String> keys = cursorCodec.decode(scope, cursor, 2);
+            afterPublishedAt = LocalDateTime.parse(keys.get(0));
+            afterId = Long.valueOf(keys.get(1));
+        }
+
+        // 多查一筆判斷是否還有下一頁
+        List<ArticleSummary> rows = articleMapper.findPublishedPage(tag, afterPublishedAt, afterId, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<ArticleSummary> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ArticleSummary last = page.get(page.size() - 1);
+            nextCursor = cursorCodec.encode(scope, last.getPublishedAt().toString(), String.valueOf(last.getId()));
+        }
+
+        CursorPageResult<ArticleSummaryResponse> result = CursorPageResult.of(size, nextCursor, toResponses(page));
+        if (withTotal) {
+            result.setTotal(countPublished(tag).value());
+        }
+        return result;
+    }
+
+    /**
+     * 以頁碼分頁查詢已發布文章 (新到舊)
+     * <p>
+     * 總數不做逐次精確 COUNT：未過濾時使用定期刷新的快取計數，
+     * 依標籤過濾時數量不超過門檻才精確計數，並以 totalExact 標示。
+     * </p>
+     *
+     * @param tagSlug  標籤 Slug，null 表示全部
+     * @param pageNum  頁碼 (從 1 開始)
+     * @param pageSize 每頁數量
+     * @return 分頁結果
+     */
+    public PageResult<ArticleSummaryResponse> pagePublished(String tagSlug, int pageNum, int pageSize) {
+        String tag = StringUtils.hasText(tagSlug) ? tagSlug : null;
+        int size = clampPageSize(pageSize);
+        int page = Math.max(pageNum, 1);
+
+        List<ArticleSummary> rows = articleMapper.findPublishedOffset(tag, (long) (page - 1) * size, size);
+        Count total = countPublished(tag);
+        return PageResult.of(page, size, total.value(), total.exact(), toResponses(rows));
+    }
+
+    private Count countPublished(String tag) {
+        if (tag == null) {
+            return countProvider.cached("articles:published", () -> articleMapper.countPublished(null));
+        }
+        return countProvider.bounded("articles:published:tag=" + tag,
+                cap -> articleMapper.countPublishedBounded(tag, cap),
+                () -> articleMapper.countPublished(tag));
+    }
+
+    /**
+     * 轉換列表項並批次補上標籤與作者 (各一次批次查詢)
+     *
+     * @param rows 列表項
+     * @return 回應列表
+     */
+    List<ArticleSummaryResponse> toResponses(List<ArticleSummary> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<TagBriefResponse>> tags = articleMapper.findTagRefs(rows.stream().map(ArticleSummary::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ArticleSnapshot.TagRef::getArticleId,
+                        Collectors.mapping(tag -> new TagBriefResponse(tag.getName(), tag.getSlug()), Collectors.toList())));
+        rows.forEach(row -> userProfileLoader.register(row.getAuthorId()));
+
+        return rows.stream().map(row -> {
+            ArticleSummaryResponse response = new ArticleSummaryResponse();
+            response.setUuid(row.getUuid());
+            response.setAuthorId(row.getAuthorId());
+            UserProfile author = userProfileLoader.get(row.getAuthorId());
+            if (author != null) {
+                response.setAuthorNickname(author.nickname());
+                response.setAuthorAvatarUrl(author.avatarUrl());
+            }
+            response.setTitle(row.getTitle());
+            response.setSlug(row.getSlug());
+            response.setSummary(row.getSummary());
+            response.setCoverImageUrl(row.getCoverImageUrl());
+            response.setReadingMinutes(row.getReadingMinutes());
+            response.setViewCount(row.getViewCount());
+            response.setLikeCount(row.getLikeCount());
+            response.setCommentCount(row.getCommentCount());
+            response.setPublishedAt(row.getPublishedAt());
+            response.setTags(tags.getOrDefault(row.getId(), List.of()));
+            return response;
+        }).toList();
+    }
+
+    static int clampPageSize(int pageSize) {
+        return Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+    }
+}
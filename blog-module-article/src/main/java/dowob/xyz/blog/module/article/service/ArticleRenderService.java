@@ -0,0 +1,150 @@
+package dowob.xyz.blog.module.article.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.module.article.config.ArticleRenderConfig;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.RenderedContent;
+import dowob.xyz.blog.module.article.model.event.ArticleChangedEvent;
+import dowob.xyz.blog.module.article.model.event.ArticleRenderEvent;
+import dowob.xyz.blog.module.article.model.projection.ArticleRenderSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 文章渲染服務
+ * <p>
+ * 文章儲存時渲染一次 Markdown，將 HTML、目錄、閱讀時間與摘要寫回 articles，
+ * 詳情讀取直接取用，不再逐次渲染。{@code article.render.async=true} 時渲染改為
+ * 交易提交後經 RabbitMQ 交給消費者執行，儲存請求不需等待渲染。
+ * 內容雜湊未變時略過重複渲染。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class ArticleRenderService {
+
+    private final ArticleMapper articleMapper;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
+    private final RabbitTemplate rabbitTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleRenderConfig config;
+    private final TransactionTemplate requiresNew;
+    private final Timer renderTimer;
+
+    public ArticleRenderService(ArticleMapper articleMapper,
+            MarkdownRenderer markdownRenderer,
+            ObjectMapper objectMapper,
+            RabbitTemplate rabbitTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ArticleRenderConfig config,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.articleMapper = articleMapper;
+        this.markdownRenderer = markdownRenderer;
+        this.objectMapper = objectMapper;
+        this.rabbitTemplate = rabbitTemplate;
+        this.eventPublisher = eventPublisher;
+        this.config = config;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.renderTimer = Timer.builder("article.render.duration")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 文章內容已儲存：同步模式下立即渲染 (加入目前交易)，非同步模式下於提交後投遞渲染訊息
+     *
+     * @param articleId 文章 ID
+     */
+    public void onContentSaved(Long articleId) {
+        if (config.isAsync()) {
+            eventPublisher.publishEvent(new ArticleRenderEvent(articleId));
+        } else {
+            render(articleId);
+        }
+    }
+
+    /**
+     * 交易提交後投遞渲染訊息
+     * <p>
+     * 投遞失敗時的同步渲染在新交易中執行，寫回的產物才會提交，快取失效事件也才會在其提交後觸發。
+     * </p>
+     *
+     * @param event 渲染請求
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void dispatch(ArticleRenderEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(MqConstant.ARTICLE_EXCHANGE, MqConstant.ARTICLE_RENDER_ROUTING_KEY, event);
+        } catch (Exception e) {
+            // 投遞失敗時退回同步渲染，避免文章停留在未渲染狀態
+            log.warn("Failed to dispatch render for article {}, rendering inline: {}", event.articleId(), e.getMessage());
+            requiresNew.executeWithoutResult(status -> render(event.articleId()));
+        }
+    }
+
+    /**
+     * 渲染文章並寫回產物 (內容雜湊未變且已有摘要時略過)
+     *
+     * @param articleId 文章 ID
+     * @return 是否實際渲染
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public boolean render(Long articleId) {
+        ArticleRenderSource source = articleMapper.findRenderSource(articleId);
+        if (source == null) {
+            return false;
+        }
+        String hash = sha256(source.getContentMd());
+        if (Objects.equals(hash, source.getRenderedHash()) && StringUtils.hasText(source.getSummary())) {
+            return false;
+        }
+
+        RenderedContent rendered = renderTimer.record(() -> markdownRenderer.render(source.getContentMd()));
+        articleMapper.updateRenderArtifacts(articleId, rendered.html(), toJson(rendered),
+                rendered.readingMinutes(), rendered.summary(), hash);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId, List.of(source.getSlug())));
+        return true;
+    }
+
+    private String toJson(RenderedContent rendered) {
+        try {
+            return objectMapper.writeValueAsString(rendered.toc());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize table of contents", e);
+        }
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import dowob.xyz.blog.common.api.enums.Role;
+import dowob.xyz.blog.common.api.errorcode.ArticleErrorCode;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.security.SecurityUtil;
+import dowob.xyz.blog.infrastructure.tag.ArticleTagService;
+import dowob.xyz.blog.infrastructure.user.UserProfileLoader;
+import dowob.xyz.blog.infrastructure.user.UserProfileService.UserProfile;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.Article;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.dto.request.ArticleSaveRequest;
+import dowob.xyz.blog.module.article.model.dto.response.ArticleDetailResponse;
+import dowob.xyz.blog.module.article.model.dto.response.TagBriefResponse;
+import dowob.xyz.blog.module.article.model.event.ArticleChangedEvent;
+import dowob.xyz.blog.module.article.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 文章服務
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleService {
+
+    private static final int MAX_SLUG_LENGTH = 250;
+
+    /**
+     * 與 /api/v1/articles 下固定路徑衝突的保留 Slug
+     */
+    private static final Set<String> RESERVED_SLUGS = Set.of("paged", "feed", "search", "tagged");
+
+    private final ArticleRepository articleRepository;
+    private final ArticleMapper articleMapper;
+    private final ArticleTagService articleTagService;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleLikeService articleLikeService;
+    private final ArticleLikeStore articleLikeStore;
+    private final ArticleRenderService articleRenderService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserProfileLoader userProfileLoader;
+
+    /**
+     * 讀取已發布文章並記錄一次瀏覽
+     *
+     * @param slug       文章 Slug
+     * @param visitorKey 訪客識別 (用於瀏覽去重)
+     * @return 文章詳情
+     */
+    public ArticleDetailResponse viewPublished(String slug, String visitorKey) {
+        ArticleSnapshot snapshot = articleDetailCache.getBySlug(slug);
+        if (snapshot == null || snapshot.getStatus() != ArticleStatus.PUBLISHED) {
+            throw new BusinessException(ArticleErrorCode.ARTICLE_NOT_FOUND);
+        }
+
+        articleViewCounter.recordView(snapshot.getId(), visitorKey);
+        return toDetail(snapshot);
+    }
+
+    /**
+     * 建立文章 (草稿)
+     *
+     * @param authorId 作者 ID
+     * @param request  文章內容
+     * @return 文章詳情
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ArticleDetailResponse create(Long authorId, ArticleSaveRequest request) {
+        Article article = new Article();
+        article.setUuid(UUID.randomUUID());
+        article.setAuthorId(authorId);
+        article.setStatus(ArticleStatus.DRAFT);
+        apply(article, request);
+        article.setSlug(resolveSlug(request.getSlug(), request.getTitle(), null));
+
+        save(article);
+        List<TagBriefResponse> tags = saveTags(article.getId(),
+                request.getTags() == null ? List.of() : request.getTags());
+        articleRenderService.onContentSaved(article.getId());
+        eventPublisher.publishEvent(new ArticleChangedEvent(article.getId(), List.of(article.getSlug())));
+        return toDetail(article, tags);
+    }
+
+    /**
+     * 更新文章
+     *
+     * @param slug    文章 Slug
+     * @param userId  操作用戶 ID
+     * @param request 文章內容
+     * @return 文章詳情
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ArticleDetailResponse update(String slug, Long userId, ArticleSaveRequest request) {
+        Article article = requireEditable(slug, userId);
+        String oldSlug = article.getSlug();
+        apply(article, request);
+        if (StringUtils.hasText(request.getSlug()) && !request.getSlug().equals(oldSlug)) {
+            article.setSlug(resolveSlug(request.getSlug(), request.getTitle(), article.getId()));
+        }
+
+        save(article);
+        List<TagBriefResponse> tags = request.getTags() == null
+                ? currentTags(article.getId())
+                : saveTags(article.getId(), request.getTags());
+        articleRenderService.onContentSaved(article.getId());
+        publishChanged(article.getId(), oldSlug, article.getSlug(), request.getTags() != null);
+        return toDetail(article, tags);
+    }
+
+    /**
+     * 發布文章
+     *
+     * @param slug   文章 Slug
+     * @param userId 操作用戶 ID
+     * @return 文章詳情
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ArticleDetailResponse publish(String slug, Long userId) {
+        Article article = requireEditable(slug, userId);
+        if (article.getStatus() != ArticleStatus.PUBLISHED) {
+            article.setStatus(ArticleStatus.PUBLISHED);
+            if (article.getPublishedAt() == null) {
+                article.setPublishedAt(LocalDateTime.now());
+            }
+            save(article);
+            publishChanged(article.getId(), article.getSlug(), article.getSlug(), true);
+        }
+        return toDetail(article, currentTags(article.getId()));
+    }
+
+    /**
+     * 刪除文章 (先移除標籤以扣減使用數，按讚與留言隨外鍵一併刪除)
+     *
+     * @param slug   文章 Slug
+     * @param userId 操作用戶 ID
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(String slug, Long userId) {
+        Article article = requireEditable(slug, userId);
+        articleTagService.replaceTags(article.getId(), List.of());
+        articleRepository.deleteById(article.getId());
+        articleLikeStore.delete(article.getId());
+        publishChanged(article.getId(), article.getSlug(), article.getSlug(), true);
+    }
+
+    private Article requireEditable(String slug, Long userId) {
+        Article article = articleRepository.findBySlug(slug)
+                .orElseThrow(() -> new BusinessException(ArticleErrorCode.ARTICLE_NOT_FOUND));
+        if (!Objects.equals(article.getAuthorId(), userId) && !SecurityUtil.hasRole(Role.ADMIN)) {
+            throw new BusinessException(ArticleErrorCode.ARTICLE_ACCESS_DENIED);
+        }
+        return article;
+    }
+
+    private void apply(Article article, ArticleSaveRequest request) {
+        article.setTitle(request.getTitle());
+        article.setSummary(request.getSummary());
+        article.setContentMd(request.getContentMd());
+        article.setCoverImageUrl(request.getCoverImageUrl());
+    }
+
+    private void save(Article article) {
+        try {
+            articleRepository.save(article);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ArticleErrorCode.ARTICLE_SLUG_DUPLICATED);
+        }
+    }
+
+    private void publishChanged(Long articleId, String oldSlug, String newSlug, boolean tagsOrStatusChanged) {
+        Set<String> slugs = new LinkedHashSet<>(List.of(oldSlug, newSlug));
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId, slugs, tagsOrStatusChanged));
+    }
+
+    /**
+     * 決定 Slug：指定時必須未被使用；未指定時由標題產生，衝突時加上隨機後綴
+     */
+    private String resolveSlug(String requested, String title, Long selfId) {
+        if (StringUtils.hasText(requested)) {
+            if (RESERVED_SLUGS.contains(requested)) {
+                throw new BusinessException(ArticleErrorCode.ARTICLE_SLUG_DUPLICATED);
+            }
+            articleRepository.findBySlug(requested)
+                    .filter(existing -> !existing.getId().equals(selfId))
+                    .ifPresent(existing -> {
+                        throw new BusinessException(ArticleErrorCode.ARTICLE_SLUG_DUPLICATED);
+                    });
+            return requested;
+        }
+
+        String base = slugify(title);
+        String slug = base.isEmpty() ? randomSuffix() : base;
+        while (RESERVED_SLUGS.contains(slug) || articleRepository.findBySlug(slug).isPresent()) {
+            slug = (base.isEmpty() ? "" : base + "-") + randomSuffix();
+        }
+        return slug;
+    }
+
+    private static String slugify(String title) {
+        String slug = Normalizer.normalize(title, Normalizer.Form.NFKC)
+                .toLowerCase()
+                .replaceAll("[^\\p{L}\\p{N}]+", "-")
+                .replaceAll("(^-+|-+$)", "");
+        return slug.length() > MAX_SLUG_LENGTH - 8 ? slug.substring(0, MAX_SLUG_LENGTH - 8) : slug;
+    }
+
+    private static String randomSuffix() {
+        return Long.toString(ThreadLocalRandom.current().nextLong(36L * 36 * 36 * 36 * 36, 36L * 36 * 36 * 36 * 36 * 36), 36);
+    }
+
+    private ArticleDetailResponse toDetail(ArticleSnapshot snapshot) {
+        ArticleDetailResponse response = new ArticleDetailResponse();
+        response.setUuid(snapshot.getUuid());
+        response.setAuthorId(snapshot.getAuthorId());
+        fillAuthor(response, snapshot.getAuthorId());
+        response.setTitle(snapshot.getTitle());
+        response.setSlug(snapshot.getSlug());
+        response.setSummary(snapshot.getSummary());
+        response.setContentMd(snapshot.getContentMd());
+        response.setContentHtml(snapshot.getContentHtml());
+        response.setToc(snapshot.getTocJson());
+        response.setReadingMinutes(snapshot.getReadingMinutes());
+        response.setCoverImageUrl(snapshot.getCoverImageUrl());
+        // 快照中的計數可能過時，以即時值覆蓋
+        response.setViewCount(snapshot.getViewCount() + articleViewCounter.pendingDelta(snapshot.getId()));
+        response.setLikeCount(articleLikeService.likeCount(snapshot.getId(), snapshot.getLikeCount()));
+        response.setCommentCount(snapshot.getCommentCount());
+        response.setPublishedAt(snapshot.getPublishedAt());
+        response.setUpdatedAt(snapshot.getUpdatedAt());
+        response.setTags(snapshot.getTags().stream()
+                .map(tag -> new TagBriefResponse(tag.getName(), tag.getSlug()))
+                .toList());
+        return response;
+    }
+
+    private ArticleDetailResponse toDetail(Article article, List<TagBriefResponse> tags) {
+        ArticleDetailResponse response = new ArticleDetailResponse();
+        response.setUuid(article.getUuid());
+        response.setAuthorId(article.getAuthorId());
+        fillAuthor(response, article.getAuthorId());
+        response.setTitle(article.getTitle());
+        response.setSlug(article.getSlug());
+        response.setSummary(article.getSummary());
+        response.setContentMd(article.getContentMd());
+        response.setCoverImageUrl(article.getCoverImageUrl());
+        response.setViewCount(article.getViewCount());
+        response.setLikeCount(article.getLikeCount());
+        response.setCommentCount(article.getCommentCount());
+        response.setPublishedAt(article.getPublishedAt());
+        response.setUpdatedAt(article.getUpdatedAt());
+        response.setTags(tags);
+        return response;
+    }
+
+    private List<TagBriefResponse> saveTags(Long articleId, List<String> tagNames) {
+        return articleTagService.replaceTags(articleId, tagNames).stream()
+                .map(tag -> new TagBriefResponse(tag.name(), tag.slug()))
+                .toList();
+    }
+
+    private List<TagBriefResponse> currentTags(Long articleId) {
+        return articleMapper.findTagRefs(List.of(articleId)).stream()
+                .map(tag -> new TagBriefResponse(tag.getName(), tag.getSlug()))
+                .toList();
+    }
+
+    private void fillAuthor(ArticleDetailResponse response, Long authorId) {
+        UserProfile author = userProfileLoader.get(authorId);
+        if (author != null) {
+            response.setAuthorNickname(author.nickname());
+            response.setAuthorAvatarUrl(author.avatarUrl());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.module.article.config.ArticleViewConfig;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.ViewCountDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 文章瀏覽計數器 (Write-Behind)
+ * <p>
+ * 每次瀏覽只在本地分段計數器 ({@link LongAdder}) 上累加，熱門文章的並發瀏覽不會互相競爭，
+ * 也不會對 articles 同一行產生逐筆 UPDATE；定期以批次
+ * {@code UPDATE ... FROM (VALUES ...)} 一次回寫多篇文章的增量。
+ * </p>
+ * <ul>
+ *     <li>計數器只增不減，回寫時取 {@code sum - flushed} 作為增量，不需重置，並發累加不會遺失</li>
+ *     <li>每批在交易內先依文章 ID 順序鎖定再回寫，與留言數、按讚數等批次更新不會互相死鎖</li>
+ *     <li>回寫失敗時不推進 flushed，增量保留到下一輪重試</li>
+ *     <li>整個回寫週期沒有新瀏覽的計數器會被移除，記憶體只與近期被瀏覽的文章數成正比</li>
+ *     <li>同一訪客在去重窗口內的重複瀏覽以 Redis SET NX EX 過濾</li>
+ *     <li>Pod 關閉時 ({@link PreDestroy}) 會再回寫一次，緩衝中的增量不會遺失</li>
+ * </ul>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class ArticleViewCounter {
+
+    private final ArticleMapper articleMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final ArticleViewConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter dedupHits;
+    private final Counter flushFailures;
+
+    public ArticleViewCounter(ArticleMapper articleMapper,
+            StringRedisTemplate redisTemplate,
+            ArticleViewConfig config,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager) {
+        this.articleMapper = articleMapper;
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dedupHits = meterRegistry.counter("article.view.deduplicated");
+        this.flushFailures = meterRegistry.counter("article.view.flush.failures");
+        meterRegistry.gauge("article.view.pending", this, ArticleViewCounter::pendingTotal);
+    }
+
+    /**
+     * 記錄一次瀏覽
+     *
+     * @param articleId  文章 ID
+     * @param visitorKey 訪客識別 (登入用戶 ID 或匿名指紋)
+     */
+    public void recordView(Long articleId, String visitorKey) {
+        if (isDuplicate(articleId, visitorKey)) {
+            dedupHits.increment();
+            return;
+        }
+        while (true) {
+            ViewCounter counter = counters.computeIfAbsent(articleId, id -> new ViewCounter());
+            counter.total.increment();
+            if (!counter.retired) {
+                return;
+            }
+            // 計數器正被 flush 移除：撤回這次累加，改記到新的計數器
+            counter.total.decrement();
+        }
+    }
+
+    /**
+     * 取得尚未回寫的瀏覽數增量 (用於讀取時補上最新值)
+     *
+     * @param articleId 文章 ID
+     * @return 未回寫增量
+     */
+    public long pendingDelta(Long articleId) {
+        ViewCounter counter = counters.get(articleId);
+        return counter == null ? 0 : counter.pending();
+    }
+
+    /**
+     * 將累積的增量批次回寫至 DB
+     */
+    @Scheduled(fixedDelayString = "${article.view.flush-interval:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<ViewCountDelta> batch = new ArrayList<>(config.getFlushBatchSize());
+            List<Long> totals = new ArrayList<>(config.getFlushBatchSize());
+            for (var entry : counters.entrySet()) {
+                ViewCounter counter = entry.getValue();
+                long total = counter.total.sum();
+                long delta = total - counter.flushed;
+                if (delta <= 0) {
+                    retire(entry.getKey(), counter);
+                    continue;
+                }
+                batch.add(new ViewCountDelta(entry.getKey(), delta));
+                totals.add(total);
+                if (batch.size() >= config.getFlushBatchSize()) {
+                    write(batch, totals);
+                    batch.clear();
+                    totals.clear();
+                }
+            }
+            write(batch, totals);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Pod 關閉前回寫所有緩衝中的增量
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        long remaining = pendingTotal();
+        if (remaining > 0) {
+            log.error("Article view counter shutdown with {} unflushed views", remaining);
+        }
+    }
+
+    private void write(List<ViewCountDelta> batch, List<Long> totals) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> articleIds = batch.stream().map(ViewCountDelta::articleId).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                articleMapper.lockByIds(articleIds);
+                articleMapper.addViewCounts(batch);
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                counters.get(batch.get(i).articleId()).flushed = totals.get(i);
+            }
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.error("Failed to flush {} article view deltas, will retry", batch.size(), e);
+        }
+    }
+
+    /**
+     * 移除閒置的計數器
+     * <p>
+     * 先標記 retired 再確認沒有未回寫的增量才移除；與 {@link #recordView} 的「先累加再檢查 retired」搭配，
+     * 兩邊至少有一方會看到對方的寫入：flush 看到新增量就保留計數器，否則瀏覽端看到 retired 會撤回並重記到新計數器。
+     * </p>
+     */
+    private void retire(Long articleId, ViewCounter counter) {
+        counter.retired = true;
+        if (counter.pending() == 0) {
+            counters.remove(articleId, counter);
+        } else {
+            counter.retired = false;
+        }
+    }
+
+    private boolean isDuplicate(Long articleId, String visitorKey) {
+        try {
+            Boolean first = redisTemplate.opsForValue().setIfAbsent(
+                    RedisKeyConstant.getArticleViewDedupKey(articleId, visitorKey), "1", config.getDedupWindow());
+            return Boolean.FALSE.equals(first);
+        } catch (Exception e) {
+            // Redis 不可用時寧可多計，不影響文章讀取
+            log.warn("View dedup check failed for article {}: {}", articleId, e.getMessage());
+            return false;
+        }
+    }
+
+    private long pendingTotal() {
+        long pending = 0;
+        for (ViewCounter counter : counters.values()) {
+            pending += counter.pending();
+        }
+        return pending;
+    }
+
+    /**
+     * 單篇文章的計數器
+     */
+    private static final class ViewCounter {
+        /**
+         * 計數器建立以來的累計瀏覽數 (只在撤回已移除計數器上的累加時遞減)
+         */
+        private final LongAdder total = new LongAdder();
+
+        /**
+         * 已回寫至 DB 的累計值 (僅由持有 flushLock 的執行緒寫入)
+         */
+        private volatile long flushed;
+
+        /**
+         * 是否正被 flush 移除 (僅由持有 flushLock 的執行緒寫入)
+         */
+        private volatile boolean retired;
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
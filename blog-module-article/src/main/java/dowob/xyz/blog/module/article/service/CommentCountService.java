@@ -0,0 +1,108 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.CommentCountDelta;
+import dowob.xyz.blog.module.article.model.event.ArticleChangedEvent;
+import dowob.xyz.blog.module.article.model.event.CommentCountEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 文章留言數維護
+ * <p>
+ * 留言寫入不直接更新 articles 列，避免熱門討論串讓同一列成為鎖競爭熱點：
+ * 變更於交易提交後投遞至 RabbitMQ，消費端把一批事件依文章彙總為增量後以單一語句回寫。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class CommentCountService {
+
+    private final ArticleMapper articleMapper;
+    private final RabbitTemplate rabbitTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNew;
+
+    public CommentCountService(ArticleMapper articleMapper,
+            RabbitTemplate rabbitTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.articleMapper = articleMapper;
+        this.rabbitTemplate = rabbitTemplate;
+        this.eventPublisher = eventPublisher;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 交易提交後投遞留言數事件
+     * <p>
+     * 投遞失敗時的直接更新在新交易中執行：此時原交易已提交但連線仍綁定在執行緒上，
+     * 不開新交易的寫入不會被提交，發布的變更事件也會因同步回呼已執行過而遺失。
+     * </p>
+     *
+     * @param event 留言數事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void dispatch(CommentCountEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(MqConstant.ARTICLE_EXCHANGE, MqConstant.ARTICLE_COMMENT_COUNT_ROUTING_KEY, event);
+        } catch (Exception e) {
+            // 投遞失敗時退回直接更新，避免計數等到下一次校驗才修正
+            log.warn("Failed to dispatch comment count for article {}, applying inline: {}",
+                    event.articleId(), e.getMessage());
+            requiresNew.executeWithoutResult(status -> apply(List.of(event)));
+        }
+    }
+
+    /**
+     * 彙總一批事件並回寫留言數
+     * <p>
+     * 先以 SELECT ... ORDER BY id FOR UPDATE 依文章 ID 順序鎖定，再以單一 UPDATE 回寫，
+     * 多個消費者並行時鎖順序一致，不會互相死鎖；增量相抵為 0 的文章不更新。
+     * </p>
+     *
+     * @param events 留言數事件
+     * @return 回寫的文章數
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int apply(List<CommentCountEvent> events) {
+        Map<Long, Long> totals = new TreeMap<>();
+        for (CommentCountEvent event : events) {
+            totals.merge(event.articleId(), (long) event.delta(), Long::sum);
+        }
+        List<CommentCountDelta> deltas = new ArrayList<>(totals.size());
+        totals.forEach((articleId, delta) -> {
+            if (delta != 0) {
+                deltas.add(new CommentCountDelta(articleId, delta));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        articleMapper.lockByIds(deltas.stream().map(CommentCountDelta::articleId).toList());
+        articleMapper.addCommentCounts(deltas);
+        // 每批每篇文章只失效一次快取 (詳情快照與 Feed 熱度皆含留言數)
+        for (CommentCountDelta delta : deltas) {
+            eventPublisher.publishEvent(new ArticleChangedEvent(delta.articleId(), List.of()));
+        }
+        return deltas.size();
+    }
+}
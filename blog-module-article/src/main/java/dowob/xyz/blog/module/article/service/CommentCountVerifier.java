@@ -0,0 +1,60 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.reconcile.CountDriftReconciler;
+import dowob.xyz.blog.module.article.config.ArticleCommentConfig;
+import dowob.xyz.blog.module.article.mapper.ArticleMapper;
+import dowob.xyz.blog.module.article.model.event.ArticleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 留言數校驗
+ * <p>
+ * 以 {@link CountDriftReconciler} 定期找出 comment_count 與可見留言實際筆數不一致的文章，
+ * 連續兩輪以相同數值不一致才重新計算，並失效文章快取。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+public class CommentCountVerifier {
+
+    private final ArticleMapper articleMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleCommentConfig config;
+    private final CountDriftReconciler reconciler;
+
+    public CommentCountVerifier(ArticleMapper articleMapper,
+            StringRedisTemplate redisTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ArticleCommentConfig config,
+            MeterRegistry meterRegistry) {
+        this.articleMapper = articleMapper;
+        this.eventPublisher = eventPublisher;
+        this.config = config;
+        this.reconciler = new CountDriftReconciler(redisTemplate, meterRegistry, "article comment_count",
+                RedisKeyConstant.ARTICLE_COMMENTS_VERIFY_LOCK, RedisKeyConstant.ARTICLE_COMMENTS_DRIFT_KEY,
+                "article.comments.verify.repaired");
+    }
+
+    @Scheduled(fixedDelayString = "${article.comment.verify-interval:600000}",
+            initialDelayString = "${article.comment.verify-interval:600000}")
+    public void verify() {
+        reconciler.verify(Duration.ofMillis(config.getVerifyInterval()), config.getVerifyBatchSize(),
+                articleMapper::maxId, articleMapper::findCommentCountDrift, this::repair);
+    }
+
+    private void repair(List<Long> articleIds) {
+        articleMapper.refreshCommentCounts(articleIds);
+        // 詳情快照與 Feed 熱度皆含留言數
+        articleIds.forEach(articleId -> eventPublisher.publishEvent(new ArticleChangedEvent(articleId, List.of())));
+    }
+}
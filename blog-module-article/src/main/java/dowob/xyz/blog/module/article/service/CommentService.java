@@ -0,0 +1,269 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import dowob.xyz.blog.common.api.enums.CommentStatus;
+import dowob.xyz.blog.common.api.enums.Role;
+import dowob.xyz.blog.common.api.errorcode.ArticleErrorCode;
+import dowob.xyz.blog.common.api.errorcode.CommentErrorCode;
+import dowob.xyz.blog.common.api.response.CursorPageResult;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.pagination.CursorCodec;
+import dowob.xyz.blog.infrastructure.security.SecurityUtil;
+import dowob.xyz.blog.infrastructure.user.UserProfileLoader;
+import dowob.xyz.blog.infrastructure.user.UserProfileService.UserProfile;
+import dowob.xyz.blog.module.article.config.ArticleCommentConfig;
+import dowob.xyz.blog.module.article.mapper.CommentMapper;
+import dowob.xyz.blog.module.article.model.Comment;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.dto.request.CommentCreateRequest;
+import dowob.xyz.blog.module.article.model.dto.response.CommentResponse;
+import dowob.xyz.blog.module.article.model.event.CommentCountEvent;
+import dowob.xyz.blog.module.article.model.projection.CommentRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 文章留言服務
+ * <p>
+ * 一頁討論串 (頂層留言 + 每串前幾則回覆 + 回覆總數) 只需一次索引範圍查詢，留言者經 UserProfileLoader 批次補上；
+ * 頂層留言以 ID 游標分頁，單串的其餘回覆以 path 游標分頁。
+ * 可見留言數的變更以 {@link CommentCountEvent} 發布，由 {@link CommentCountService} 非同步批次回寫。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final CommentMapper commentMapper;
+    private final ArticleDetailCache articleDetailCache;
+    private final CursorCodec cursorCodec;
+    private final ArticleCommentConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserProfileLoader userProfileLoader;
+
+    /**
+     * 以游標分頁查詢頂層留言，每則附帶前幾則回覆 (巢狀)
+     *
+     * @param slug     文章 Slug
+     * @param cursor   上一頁回傳的游標，null 表示第一頁
+     * @param pageSize 每頁頂層留言數
+     * @return 游標分頁結果
+     */
+    public CursorPageResult<CommentResponse> listThreads(String slug, String cursor, int pageSize) {
+        ArticleSnapshot article = requirePublished(slug);
+        String scope = "comments:" + article.getId();
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        Long afterRootId = StringUtils.hasText(cursor) ? Long.valueOf(cursorCodec.decode(scope, cursor, 1).get(0)) : null;
+
+        // 多查一串判斷是否還有下一頁
+        int replyLimit = config.getPreviewReplies();
+        List<CommentRow> rows = commentMapper.findThreads(article.getId(), afterRootId, size + 1, replyLimit);
+        registerAuthors(rows);
+
+        Map<Long, CommentResponse> nodes = new HashMap<>();
+        Map<Long, String> lastPaths = new HashMap<>();
+        List<CommentResponse> roots = new ArrayList<>();
+        List<CommentRow> rootRows = new ArrayList<>();
+        for (CommentRow row : rows) {
+            CommentResponse node = toResponse(row);
+            nodes.put(row.getId(), node);
+            lastPaths.put(row.getRootId(), row.getPath());
+            if (row.getParentId() == null) {
+                node.setReplyCount(row.getThreadReplyCount());
+                roots.add(node);
+                rootRows.add(row);
+            } else {
+                // path 排序保證父節點先出現
+                CommentResponse parent = nodes.get(row.getParentId());
+                if (parent != null) {
+                    parent.getReplies().add(node);
+                }
+            }
+        }
+
+        for (int i = 0; i < rootRows.size(); i++) {
+            CommentRow root = rootRows.get(i);
+            if (root.getThreadReplyCount() > replyLimit) {
+                roots.get(i).setRepliesCursor(cursorCodec.encode("replies:" + root.getId(), lastPaths.get(root.getId())));
+            }
+        }
+
+        boolean hasMore = roots.size() > size;
+        List<CommentResponse> page = hasMore ? roots.subList(0, size) : roots;
+        String nextCursor = hasMore ? cursorCodec.encode(scope, String.valueOf(rootRows.get(size - 1).getId())) : null;
+        return CursorPageResult.of(size, nextCursor, page);
+    }
+
+    /**
+     * 以游標分頁查詢單一討論串的回覆 (先序，平面列表，以 parentUuid / depth 還原結構)
+     *
+     * @param slug     文章 Slug
+     * @param rootUuid 頂層留言 UUID
+     * @param cursor   游標 (來自 repliesCursor 或上一頁)，null 表示從頭開始
+     * @param pageSize 每頁數量
+     * @return 游標分頁結果
+     */
+    public CursorPageResult<CommentResponse> listReplies(String slug, UUID rootUuid, String cursor, int pageSize) {
+        ArticleSnapshot article = requirePublished(slug);
+        CommentRow root = requireComment(article, rootUuid);
+        if (root.getParentId() != null) {
+            throw new BusinessException(CommentErrorCode.COMMENT_NOT_FOUND);
+        }
+        String scope = "replies:" + root.getId();
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        String afterPath = StringUtils.hasText(cursor) ? cursorCodec.decode(scope, cursor, 1).get(0) : root.getPath();
+
+        List<CommentRow> rows = commentMapper.findReplies(article.getId(), root.getId(), afterPath, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<CommentRow> page = hasMore ? rows.subList(0, size) : rows;
+        registerAuthors(page);
+
+        String nextCursor = hasMore ? cursorCodec.encode(scope, page.get(page.size() - 1).getPath()) : null;
+        return CursorPageResult.of(size, nextCursor, page.stream().map(this::toResponse).toList());
+    }
+
+    /**
+     * 新增留言或回覆
+     * <p>
+     * 回覆超過最大深度時改掛到父留言的上一層，討論串不會無限加深。
+     * </p>
+     *
+     * @param slug    文章 Slug
+     * @param userId  留言者 ID
+     * @param request 留言內容
+     * @return 新增的留言
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public CommentResponse create(String slug, Long userId, CommentCreateRequest request) {
+        ArticleSnapshot article = requirePublished(slug);
+
+        Long parentId = null;
+        if (request.getParentUuid() != null) {
+            CommentRow parent = requireComment(article, request.getParentUuid());
+            if (parent.getStatus() != CommentStatus.VISIBLE) {
+                throw new BusinessException(CommentErrorCode.COMMENT_NOT_FOUND);
+            }
+            parentId = parent.getDepth() + 1 > config.getMaxDepth() ? parent.getParentId() : parent.getId();
+        }
+
+        Comment comment = new Comment();
+        comment.setArticleId(article.getId());
+        comment.setUserId(userId);
+        comment.setParentId(parentId);
+        comment.setContent(request.getContent());
+        comment.setStatus(CommentStatus.VISIBLE);
+        commentMapper.insert(comment);
+        eventPublisher.publishEvent(new CommentCountEvent(article.getId(), comment.getId(), 1));
+
+        CommentRow row = commentMapper.findByUuid(comment.getUuid());
+        return toResponse(row);
+    }
+
+    /**
+     * 刪除留言 (軟刪除，保留節點讓子回覆維持在原位)，僅限留言者本人或管理員
+     *
+     * @param slug   文章 Slug
+     * @param uuid   留言 UUID
+     * @param userId 操作者 ID
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(String slug, UUID uuid, Long userId) {
+        CommentRow comment = requireComment(requirePublished(slug), uuid);
+        if (!Objects.equals(comment.getUserId(), userId) && !SecurityUtil.hasRole(Role.ADMIN)) {
+            throw new BusinessException(CommentErrorCode.COMMENT_ACCESS_DENIED);
+        }
+        changeStatus(comment, CommentStatus.DELETED);
+    }
+
+    /**
+     * 隱藏或恢復留言 (管理員)
+     *
+     * @param slug   文章 Slug
+     * @param uuid   留言 UUID
+     * @param hidden true 隱藏，false 恢復可見
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void setHidden(String slug, UUID uuid, boolean hidden) {
+        CommentRow comment = requireComment(requirePublished(slug), uuid);
+        if (comment.getStatus() == CommentStatus.DELETED) {
+            throw new BusinessException(CommentErrorCode.COMMENT_NOT_FOUND);
+        }
+        changeStatus(comment, hidden ? CommentStatus.HIDDEN : CommentStatus.VISIBLE);
+    }
+
+    /**
+     * 變更狀態，並依實際的狀態轉換發布可見留言數增量
+     */
+    private void changeStatus(CommentRow comment, CommentStatus status) {
+        CommentStatus previous = commentMapper.updateStatus(comment.getId(), status);
+        if (previous == null) {
+            return;
+        }
+        int delta = (status == CommentStatus.VISIBLE ? 1 : 0) - (previous == CommentStatus.VISIBLE ? 1 : 0);
+        if (delta != 0) {
+            eventPublisher.publishEvent(new CommentCountEvent(comment.getArticleId(), comment.getId(), delta));
+        }
+    }
+
+    private ArticleSnapshot requirePublished(String slug) {
+        ArticleSnapshot article = articleDetailCache.getBySlug(slug);
+        if (article == null || article.getStatus() != ArticleStatus.PUBLISHED) {
+            throw new BusinessException(ArticleErrorCode.ARTICLE_NOT_FOUND);
+        }
+        return article;
+    }
+
+    private CommentRow requireComment(ArticleSnapshot article, UUID uuid) {
+        CommentRow comment = commentMapper.findByUuid(uuid);
+        if (comment == null || !Objects.equals(comment.getArticleId(), article.getId())) {
+            throw new BusinessException(CommentErrorCode.COMMENT_NOT_FOUND);
+        }
+        return comment;
+    }
+
+    /**
+     * 登記可見留言的留言者，第一次讀取時合併為單次批次查詢
+     */
+    private void registerAuthors(List<CommentRow> rows) {
+        for (CommentRow row : rows) {
+            if (row.getStatus() == CommentStatus.VISIBLE) {
+                userProfileLoader.register(row.getUserId());
+            }
+        }
+    }
+
+    private CommentResponse toResponse(CommentRow row) {
+        CommentResponse response = new CommentResponse();
+        response.setUuid(row.getUuid());
+        response.setParentUuid(row.getParentUuid());
+        response.setDepth(row.getDepth());
+        response.setCreatedAt(row.getCreatedAt());
+        if (row.getStatus() != CommentStatus.VISIBLE) {
+            response.setDeleted(true);
+            return response;
+        }
+        response.setContent(row.getContent());
+        response.setAuthorId(row.getUserId());
+        UserProfile author = userProfileLoader.get(row.getUserId());
+        if (author != null) {
+            response.setAuthorNickname(author.nickname());
+            response.setAuthorAvatarUrl(author.avatarUrl());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,162 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.module.article.config.ArticleRenderConfig;
+import dowob.xyz.blog.module.article.model.RenderedContent;
+import dowob.xyz.blog.module.article.model.TocEntry;
+import lombok.RequiredArgsConstructor;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.IdGenerator;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.AttributeProvider;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Markdown 渲染器
+ * <p>
+ * 以 CommonMark (含 GFM 表格與刪除線) 轉為 HTML，並以 jsoup 白名單清洗，
+ * 同時產生目錄 (標題錨點與 HTML id 一致)、閱讀時間與純文字摘要。
+ * Parser 與 Renderer 皆為無狀態、執行緒安全，僅每次渲染的標題收集器為區域物件。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class MarkdownRenderer {
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create(), StrikethroughExtension.create());
+    private static final Parser PARSER = Parser.builder().extensions(EXTENSIONS).build();
+
+    /**
+     * 清洗時用於解析相對連結的虛擬 Base URI (相對連結會原樣保留)
+     */
+    private static final String BASE_URI = "https://blog.invalid/";
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("del", "s", "hr")
+            .addAttributes("h1", "id").addAttributes("h2", "id").addAttributes("h3", "id")
+            .addAttributes("h4", "id").addAttributes("h5", "id").addAttributes("h6", "id")
+            .addAttributes("code", "class")
+            .addAttributes("th", "align").addAttributes("td", "align")
+            .addEnforcedAttribute("a", "rel", "nofollow noopener noreferrer")
+            .preserveRelativeLinks(true);
+
+    private final ArticleRenderConfig config;
+
+    /**
+     * 渲染 Markdown
+     *
+     * @param markdown Markdown 原文
+     * @return 渲染結果
+     */
+    public RenderedContent render(String markdown) {
+        Node document = PARSER.parse(markdown == null ? "" : markdown);
+
+        List<TocEntry> toc = new ArrayList<>();
+        HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .attributeProviderFactory(context -> new HeadingIdProvider(toc, config.getTocMaxLevel()))
+                .build();
+        String html = clean(htmlRenderer.render(document));
+
+        // 純文字取自清洗後的 HTML，摘要不會帶出原始 HTML 標籤或連結網址
+        String plainText = Jsoup.parse(html).text();
+        return new RenderedContent(html, List.copyOf(toc), readingMinutes(plainText), summarize(plainText));
+    }
+
+    private static String clean(String html) {
+        Document.OutputSettings settings = new Document.OutputSettings().prettyPrint(false);
+        return Jsoup.clean(html, BASE_URI, SAFELIST, settings);
+    }
+
+    /**
+     * 閱讀時間：以空白分詞的字數與中日韓字元數分別估算後相加，至少 1 分鐘
+     */
+    private int readingMinutes(String plainText) {
+        long cjkChars = plainText.codePoints().filter(MarkdownRenderer::isCjk).count();
+        String latin = plainText.codePoints()
+                .map(cp -> isCjk(cp) ? ' ' : cp)
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString()
+                .trim();
+        long words = latin.isEmpty() ? 0 : latin.split("\\s+").length;
+        double minutes = (double) words / config.getWordsPerMinute() + (double) cjkChars / config.getCjkCharsPerMinute();
+        return Math.max(1, (int) Math.ceil(minutes));
+    }
+
+    private String summarize(String plainText) {
+        int limit = config.getSummaryLength();
+        if (plainText.codePointCount(0, plainText.length()) <= limit) {
+            return plainText;
+        }
+        int end = plainText.offsetByCodePoints(0, limit - 1);
+        return plainText.substring(0, end).trim() + "…";
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+
+    /**
+     * 為標題產生唯一 id 並收集目錄 (每次渲染一個實例)
+     */
+    private static final class HeadingIdProvider implements AttributeProvider {
+
+        private final IdGenerator idGenerator = IdGenerator.builder().build();
+        private final List<TocEntry> toc;
+        private final int maxLevel;
+
+        private HeadingIdProvider(List<TocEntry> toc, int maxLevel) {
+            this.toc = toc;
+            this.maxLevel = maxLevel;
+        }
+
+        @Override
+        public void setAttributes(Node node, String tagName, Map<String, String> attributes) {
+            if (node instanceof Heading heading) {
+                String text = headingText(heading);
+                String id = idGenerator.generateId(text);
+                attributes.put("id", id);
+                if (heading.getLevel() <= maxLevel) {
+                    toc.add(new TocEntry(heading.getLevel(), text, id));
+                }
+            }
+        }
+
+        private static String headingText(Heading heading) {
+            StringBuilder text = new StringBuilder();
+            heading.accept(new AbstractVisitor() {
+                @Override
+                public void visit(Text node) {
+                    text.append(node.getLiteral());
+                }
+
+                @Override
+                public void visit(Code node) {
+                    text.append(node.getLiteral());
+                }
+            });
+            return text.toString().trim();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dowob.xyz.blog.module.article.service;
+
+import dowob.xyz.blog.common.api.enums.ArticleStatus;
+import dowob.xyz.blog.common.api.errorcode.TagErrorCode;
+import dowob.xyz.blog.common.api.response.CursorPageResult;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.pagination.CursorCodec;
+import dowob.xyz.blog.infrastructure.tag.TaggedArticleIndex;
+import dowob.xyz.blog.infrastructure.tag.TaggedArticleIndex.ArticleIdPage;
+import dowob.xyz.blog.infrastructure.tag.TaggedArticleIndex.TagFilter;
+import dowob.xyz.blog.infrastructure.user.UserProfileLoader;
+import dowob.xyz.blog.module.article.model.cache.ArticleSnapshot;
+import dowob.xyz.blog.module.article.model.dto.response.ArticleSummaryResponse;
+import dowob.xyz.blog.module.article.model.event.ArticleChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 多標籤組合查詢服務
+ * <p>
+ * AND / OR / NOT 條件由 {@link TaggedArticleIndex} 的點陣圖運算求出排序好的文章 ID 分頁與總數，
+ * 再由 {@link ArticleDetailCache#getAll} 批次取快照，不對 article_tags 做多路 JOIN。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaggedArticleService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_TAGS_PER_CONDITION = 10;
+
+    private final TaggedArticleIndex taggedArticleIndex;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleFeedService articleFeedService;
+    private final CursorCodec cursorCodec;
+    private final UserProfileLoader userProfileLoader;
+
+    /**
+     * 查詢符合標籤條件的已發布文章 (新到舊)
+     *
+     * @param allOf    必須同時擁有的標籤 Slug
+     * @param anyOf    至少擁有其一的標籤 Slug
+     * @param noneOf   不可擁有的標籤 Slug
+     * @param cursor   上一頁回傳的游標，null 表示第一頁
+     * @param pageSize 每頁數量
+     * @return 游標分頁結果 (含總數)
+     */
+    public CursorPageResult<ArticleSummaryResponse> find(List<String> allOf, List<String> anyOf, List<String> noneOf,
+            String cursor, int pageSize) {
+        TagFilter filter = new TagFilter(normalize(allOf), normalize(anyOf), normalize(noneOf));
+        String scope = "tagged:" + filter.allOf() + filter.anyOf() + filter.noneOf();
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        Long beforeId = StringUtils.hasText(cursor) ? Long.valueOf(cursorCodec.decode(scope, cursor, 1).get(0)) : null;
+
+        ArticleIdPage page = taggedArticleIndex.find(filter, beforeId, size);
+        List<ArticleSnapshot> snapshots = articleDetailCache.getAll(page.articleIds());
+        snapshots.stream().filter(Objects::nonNull).forEach(snapshot -> userProfileLoader.register(snapshot.getAuthorId()));
+        List<ArticleSummaryResponse> list = new ArrayList<>(snapshots.size());
+        for (ArticleSnapshot snapshot : snapshots) {
+            // 索引尚未套用的下架/刪除以快照狀態為準
+            if (snapshot != null && snapshot.getStatus() == ArticleStatus.PUBLISHED) {
+                list.add(articleFeedService.toSummary(snapshot));
+            }
+        }
+
+        String nextCursor = page.hasMore()
+                ? cursorCodec.encode(scope, String.valueOf(page.articleIds().getLast()))
+                : null;
+        CursorPageResult<ArticleSummaryResponse> result = CursorPageResult.of(size, nextCursor, list);
+        result.setTotal(page.total());
+        return result;
+    }
+
+    /**
+     * 文章標籤或發布狀態變更提交後通知倒排索引 (留言數、渲染等變更不影響索引，直接略過)
+     *
+     * @param event 文章變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!event.tagsOrStatusChanged()) {
+            return;
+        }
+        try {
+            taggedArticleIndex.markChanged(List.of(event.articleId()));
+        } catch (Exception e) {
+            log.error("Failed to notify tag posting index for article {}", event.articleId(), e);
+        }
+    }
+
+    /**
+     * 去除空白與重複並排序 (游標 scope 與條件寫法順序無關)
+     */
+    private static List<String> normalize(Collection<String> slugs) {
+        if (slugs == null) {
+            return List.of();
+        }
+        List<String> normalized = slugs.stream()
+                .filter(StringUtils::hasText)
+                .map(String::strip)
+                .distinct()
+                .sorted()
+                .toList();
+        if (normalized.size() > MAX_TAGS_PER_CONDITION) {
+            throw new BusinessException(TagErrorCode.TAG_LIMIT_EXCEEDED);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,54 @@
+package dowob.xyz.blog.module.file.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 檔案物件 GC 配置
+ *
+ * <p>
+ * 從 application.yaml 的 file.gc.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * file:
+ *   gc:
+ *     interval: 3600000
+ *     grace-period: 1h
+ *     batch-size: 100
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "file.gc")
+public class FileGcConfig {
+
+    /**
+     * GC 執行間隔 (毫秒)
+     */
+    private long interval = 3600000;
+
+    /**
+     * 引用數歸零後保留多久才刪除 (期間重新上傳相同內容可直接復用)
+     */
+    @NotNull(message = "file.gc.grace-period 不可為空")
+    private Duration gracePeriod = Duration.ofHours(1);
+
+    /**
+     * 每批刪除的物件數
+     */
+    @Min(value = 1, message = "file.gc.batch-size 必須大於 0")
+    private int batchSize = 100;
+}
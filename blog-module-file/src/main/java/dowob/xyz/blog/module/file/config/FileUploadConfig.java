@@ -0,0 +1,57 @@
+package dowob.xyz.blog.module.file.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 檔案上傳配置
+ *
+ * <p>
+ * 從 application.yaml 的 file.upload.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * file:
+ *   upload:
+ *     max-size: 50MB
+ *     part-size: 8MB
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "file.upload")
+public class FileUploadConfig {
+
+    /**
+     * S3 Multipart Upload 單一分段的最小值
+     */
+    private static final DataSize MIN_PART_SIZE = DataSize.ofMegabytes(5);
+
+    /**
+     * 單一檔案大小上限
+     */
+    @NotNull(message = "file.upload.max-size 不可為空")
+    private DataSize maxSize = DataSize.ofMegabytes(50);
+
+    /**
+     * 分段上傳的分段大小，每個上傳同時只緩衝一個分段，即每個上傳的記憶體上限
+     */
+    @NotNull(message = "file.upload.part-size 不可為空")
+    private DataSize partSize = DataSize.ofMegabytes(8);
+
+    @AssertTrue(message = "file.upload.part-size 不可小於 5MB")
+    public boolean isPartSizeValid() {
+        return partSize == null || partSize.compareTo(MIN_PART_SIZE) >= 0;
+    }
+}
@@ -0,0 +1,62 @@
+package dowob.xyz.blog.module.file.controller;
+
+import dowob.xyz.blog.common.api.enums.FileCategory;
+import dowob.xyz.blog.common.api.enums.Role;
+import dowob.xyz.blog.common.api.errorcode.UserErrorCode;
+import dowob.xyz.blog.common.api.response.ApiResponse;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.security.SecurityUtil;
+import dowob.xyz.blog.module.file.model.dto.response.FileResponse;
+import dowob.xyz.blog.module.file.service.FileUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 檔案控制器
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Tag(name = "File", description = "檔案相關 API")
+@RestController
+@RequestMapping("/api/v1/files")
+@RequiredArgsConstructor
+public class FileController {
+
+    private final FileUploadService fileUploadService;
+
+    @Operation(summary = "上傳檔案",
+            description = "請求本文即為檔案內容 (非 multipart/form-data)，Content-Type 為檔案類型；內容直接串流至物件儲存。"
+                    + "可選擇以 X-Content-SHA256 宣告內容雜湊 (需搭配 Content-Length)，自己已上傳過相同內容時不需傳送本文")
+    @PostMapping
+    public ApiResponse<FileResponse> upload(@RequestParam String name,
+            @RequestParam(defaultValue = "ATTACHMENT") FileCategory category,
+            @RequestHeader(value = "X-Content-SHA256", required = false) String sha256,
+            HttpServletRequest request) throws IOException {
+        return ApiResponse.success(fileUploadService.upload(requireUserId(), request.getInputStream(),
+                request.getContentLengthLong(), sha256, name, request.getContentType(), category));
+    }
+
+    @Operation(summary = "刪除檔案", description = "刪除檔案記錄 (上傳者或管理員)，不再被引用的內容由排程清除")
+    @DeleteMapping("/{uuid}")
+    public ApiResponse<Void> delete(@PathVariable UUID uuid) {
+        fileUploadService.delete(uuid, requireUserId(), SecurityUtil.hasRole(Role.ADMIN));
+        return ApiResponse.success();
+    }
+
+    private static Long requireUserId() {
+        return SecurityUtil.getCurrentUserId().orElseThrow(() -> new BusinessException(UserErrorCode.TOKEN_INVALID));
+    }
+}
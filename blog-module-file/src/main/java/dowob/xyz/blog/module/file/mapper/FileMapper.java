@@ -0,0 +1,155 @@
+package dowob.xyz.blog.module.file.mapper;
+
+import dowob.xyz.blog.module.file.model.FileRecord;
+import dowob.xyz.blog.module.file.model.projection.FileObjectRef;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 檔案 Mapper
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Mapper
+public interface FileMapper {
+
+    /**
+     * 新增檔案記錄 (回填 id / uuid / createdAt)
+     *
+     * @param file 檔案
+     * @return 影響行數
+     */
+    @Insert("""
+            INSERT INTO files (uploader_id, original_name, object_id, storage_key, content_type, size_bytes, category,
+                               content_sha256)
+            VALUES (#{uploaderId}, #{originalName}, #{objectId}, #{storageKey}, #{contentType}, #{sizeBytes}, #{category},
+                    #{contentSha256})
+            """)
+    @Options(useGeneratedKeys = true, keyProperty = "id,uuid,createdAt", keyColumn = "id,uuid,created_at")
+    int insert(FileRecord file);
+
+    /**
+     * 依 UUID 查詢檔案
+     *
+     * @param uuid 檔案 UUID
+     * @return 檔案，不存在時為 null
+     */
+    @Select("""
+            SELECT id, uuid, uploader_id, original_name, object_id, storage_key, content_type, size_bytes, category,
+                   content_sha256, created_at
+            FROM files
+            WHERE uuid = #{uuid}
+            """)
+    FileRecord findByUuid(@Param("uuid") UUID uuid);
+
+    /**
+     * 刪除檔案記錄
+     *
+     * @param id 檔案 ID
+     * @return 影響行數
+     */
+    @Delete("DELETE FROM files WHERE id = #{id}")
+    int deleteById(@Param("id") Long id);
+
+    /**
+     * 登記內容物件：內容 (SHA-256 + 大小) 不存在時以本次上傳的 Key 建立，已存在時引用數加一並回傳既有的 Key
+     *
+     * @param sha256      內容 SHA-256
+     * @param sizeBytes   大小
+     * @param storageKey  本次上傳的 Key
+     * @param contentType 內容類型
+     * @return 物件引用 (inserted 為 false 表示內容重複，本次上傳的物件應刪除)
+     */
+    @Select("""
+            INSERT INTO file_objects (content_sha256, size_bytes, storage_key, content_type, ref_count)
+            VALUES (#{sha256}, #{sizeBytes}, #{storageKey}, #{contentType}, 1)
+            ON CONFLICT (content_sha256, size_bytes)
+            DO UPDATE SET ref_count = file_objects.ref_count + 1, updated_at = CURRENT_TIMESTAMP
+            RETURNING id, storage_key, (xmax = 0) AS inserted
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    FileObjectRef upsertObject(@Param("sha256") String sha256, @Param("sizeBytes") long sizeBytes,
+            @Param("storageKey") String storageKey, @Param("contentType") String contentType);
+
+    /**
+     * 引用上傳者已擁有的相同內容物件 (引用數加一)
+     * <p>
+     * 只比對該上傳者自己的檔案：宣告的雜湊無法證明持有內容，不可藉此取得他人的檔案。
+     * </p>
+     *
+     * @param uploaderId 上傳者 ID
+     * @param sha256     宣告的內容 SHA-256
+     * @param sizeBytes  宣告的大小
+     * @return 物件引用，上傳者沒有相同內容時為 null
+     */
+    @Select("""
+            UPDATE file_objects o
+            SET ref_count = o.ref_count + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE o.content_sha256 = #{sha256} AND o.size_bytes = #{sizeBytes}
+              AND EXISTS (SELECT 1 FROM files f WHERE f.object_id = o.id AND f.uploader_id = #{uploaderId})
+            RETURNING o.id, o.storage_key, FALSE AS inserted
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    FileObjectRef claimOwnedObject(@Param("uploaderId") Long uploaderId, @Param("sha256") String sha256,
+            @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * 物件引用數減一 (歸零後由 GC 於保留時間後刪除)
+     *
+     * @param objectId 物件 ID
+     * @return 影響行數
+     */
+    @Update("""
+            UPDATE file_objects
+            SET ref_count = GREATEST(ref_count - 1, 0), updated_at = CURRENT_TIMESTAMP
+            WHERE id = #{objectId}
+            """)
+    int releaseObject(@Param("objectId") Long objectId);
+
+    /**
+     * 修正引用數為 0 但仍有檔案指向的物件 (計數漂移的保底)
+     *
+     * @return 影響行數
+     */
+    @Update("""
+            UPDATE file_objects o
+            SET ref_count = c.cnt
+            FROM (SELECT f.object_id, COUNT(*) AS cnt
+                  FROM files f
+                  JOIN file_objects z ON z.id = f.object_id AND z.ref_count = 0
+                  GROUP BY f.object_id) c
+            WHERE o.id = c.object_id
+            """)
+    int repairZeroRefCounts();
+
+    /**
+     * 刪除保留時間已過且沒有任何檔案指向的物件 (其他交易鎖住的列略過)
+     *
+     * @param before 引用數歸零的時間早於此值才刪除
+     * @param limit  本批數量
+     * @return 已刪除物件的 Key (交易提交後再刪除 MinIO 物件)
+     */
+    @Select("""
+            DELETE FROM file_objects o
+            WHERE o.id IN (SELECT id FROM file_objects
+                           WHERE ref_count = 0 AND updated_at < #{before}
+                           ORDER BY updated_at
+                           LIMIT #{limit}
+                           FOR UPDATE SKIP LOCKED)
+              AND o.ref_count = 0
+              AND NOT EXISTS (SELECT 1 FROM files f WHERE f.object_id = o.id)
+            RETURNING o.storage_key
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<String> deleteOrphanObjects(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
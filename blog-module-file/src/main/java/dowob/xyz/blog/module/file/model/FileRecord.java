@@ -0,0 +1,68 @@
+package dowob.xyz.blog.module.file.model;
+
+import dowob.xyz.blog.common.api.enums.FileCategory;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 檔案實體
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class FileRecord {
+    private Long id;
+
+    /**
+     * UUID (對外公開ID)
+     */
+    private UUID uuid;
+
+    /**
+     * 上傳者 ID
+     */
+    private Long uploaderId;
+
+    /**
+     * 原始檔名
+     */
+    private String originalName;
+
+    /**
+     * 儲存物件 ID (相同內容的檔案共用)
+     */
+    private Long objectId;
+
+    /**
+     * MinIO 物件 Key (與 file_objects.storage_key 相同)
+     */
+    private String storageKey;
+
+    /**
+     * 內容類型
+     */
+    private String contentType;
+
+    /**
+     * 檔案大小 (位元組)
+     */
+    private long sizeBytes;
+
+    /**
+     * 分類
+     */
+    private FileCategory category;
+
+    /**
+     * 內容 SHA-256 (十六進位)
+     */
+    private String contentSha256;
+
+    /**
+     * 創建時間
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,42 @@
+package dowob.xyz.blog.module.file.model.dto.response;
+
+import dowob.xyz.blog.common.api.enums.FileCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 檔案回應 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@Schema(description = "檔案資訊")
+public class FileResponse {
+    @Schema(description = "檔案 UUID")
+    private UUID uuid;
+
+    @Schema(description = "原始檔名")
+    private String originalName;
+
+    @Schema(description = "內容類型")
+    private String contentType;
+
+    @Schema(description = "檔案大小 (位元組)")
+    private long sizeBytes;
+
+    @Schema(description = "分類")
+    private FileCategory category;
+
+    @Schema(description = "內容 SHA-256 (十六進位)")
+    private String sha256;
+
+    @Schema(description = "是否與既有內容相同而共用已儲存的物件")
+    private boolean deduplicated;
+
+    @Schema(description = "上傳時間")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package dowob.xyz.blog.module.file.model.projection;
+
+import lombok.Data;
+
+/**
+ * 儲存物件引用投影
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class FileObjectRef {
+    private Long id;
+
+    /**
+     * MinIO 物件 Key
+     */
+    private String storageKey;
+
+    /**
+     * 是否為本次新建的物件 (false 表示內容已存在，引用數加一)
+     */
+    private boolean inserted;
+}
@@ -0,0 +1,103 @@
+package dowob.xyz.blog.module.file.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.config.MinioConfig;
+import dowob.xyz.blog.module.file.config.FileGcConfig;
+import dowob.xyz.blog.module.file.mapper.FileMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 檔案物件 GC
+ * <p>
+ * 定期 (多 Pod 以 Redis 鎖確保同時只有一個執行) 刪除引用數歸零且超過保留時間的內容物件：
+ * 先在資料庫以 {@code FOR UPDATE SKIP LOCKED} 刪除資料列 (同時確認已沒有檔案指向)，提交後再批次刪除 MinIO 物件。
+ * 保留時間內重新上傳相同內容會讓引用數回升，物件不會被刪除。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class FileGarbageCollector {
+
+    private final FileMapper fileMapper;
+    private final MinioClient minioClient;
+    private final MinioConfig minioConfig;
+    private final StringRedisTemplate redisTemplate;
+    private final FileGcConfig config;
+    private final Counter removed;
+
+    public FileGarbageCollector(FileMapper fileMapper,
+            MinioClient minioClient,
+            MinioConfig minioConfig,
+            StringRedisTemplate redisTemplate,
+            FileGcConfig config,
+            MeterRegistry meterRegistry) {
+        this.fileMapper = fileMapper;
+        this.minioClient = minioClient;
+        this.minioConfig = minioConfig;
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+        this.removed = meterRegistry.counter("file.gc.removed");
+    }
+
+    @Scheduled(fixedDelayString = "${file.gc.interval:3600000}", initialDelayString = "${file.gc.interval:3600000}")
+    public void collect() {
+        Duration lockTtl = Duration.ofMillis(config.getInterval());
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(RedisKeyConstant.FILE_GC_LOCK, "1", lockTtl))) {
+            return;
+        }
+        try {
+            int repaired = fileMapper.repairZeroRefCounts();
+            if (repaired > 0) {
+                log.warn("Repaired {} file objects whose ref_count drifted to 0", repaired);
+            }
+
+            LocalDateTime before = LocalDateTime.now().minus(config.getGracePeriod());
+            List<String> keys;
+            do {
+                keys = fileMapper.deleteOrphanObjects(before, config.getBatchSize());
+                removeObjects(keys);
+            } while (keys.size() == config.getBatchSize());
+        } catch (Exception e) {
+            log.error("File garbage collection failed", e);
+        }
+    }
+
+    private void removeObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Iterable<Result<DeleteError>> results = minioClient.removeObjects(RemoveObjectsArgs.builder()
+                .bucket(minioConfig.getBucketName())
+                .objects(keys.stream().map(DeleteObject::new).toList())
+                .build());
+        int failed = 0;
+        // removeObjects 為延遲執行，需走訪結果才會送出請求
+        for (Result<DeleteError> result : results) {
+            try {
+                DeleteError error = result.get();
+                log.warn("Failed to remove object {}: {}", error.objectName(), error.message());
+            } catch (Exception e) {
+                log.warn("Failed to remove objects: {}", e.getMessage());
+            }
+            failed++;
+        }
+        removed.increment(keys.size() - failed);
+    }
+}
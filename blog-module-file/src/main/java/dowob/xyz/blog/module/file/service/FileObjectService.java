@@ -0,0 +1,71 @@
+package dowob.xyz.blog.module.file.service;
+
+import dowob.xyz.blog.module.file.mapper.FileMapper;
+import dowob.xyz.blog.module.file.model.FileRecord;
+import dowob.xyz.blog.module.file.model.projection.FileObjectRef;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 檔案與內容物件的引用管理
+ * <p>
+ * files 記錄與 file_objects 引用數在同一交易內變更；
+ * 物件本身 (MinIO) 的刪除一律延後到引用數歸零且超過保留時間後由 {@link FileGarbageCollector} 處理。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class FileObjectService {
+
+    private final FileMapper fileMapper;
+
+    /**
+     * 登記剛上傳完成的內容並新增檔案記錄
+     *
+     * @param file 檔案 (storageKey 為本次上傳的 Key，完成後改為實際引用的 Key)
+     * @return 物件引用 (inserted 為 false 表示內容重複，本次上傳的物件應由呼叫方刪除)
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public FileObjectRef register(FileRecord file) {
+        FileObjectRef ref = fileMapper.upsertObject(file.getContentSha256(), file.getSizeBytes(), file.getStorageKey(),
+                file.getContentType());
+        file.setObjectId(ref.getId());
+        file.setStorageKey(ref.getStorageKey());
+        fileMapper.insert(file);
+        return ref;
+    }
+
+    /**
+     * 上傳者已擁有相同內容時直接引用，不需重新傳輸
+     *
+     * @param file 檔案 (contentSha256 / sizeBytes 為客戶端宣告的值)
+     * @return 是否已引用既有內容並新增檔案記錄
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public boolean attachOwned(FileRecord file) {
+        FileObjectRef ref = fileMapper.claimOwnedObject(file.getUploaderId(), file.getContentSha256(), file.getSizeBytes());
+        if (ref == null) {
+            return false;
+        }
+        file.setObjectId(ref.getId());
+        file.setStorageKey(ref.getStorageKey());
+        fileMapper.insert(file);
+        return true;
+    }
+
+    /**
+     * 刪除檔案記錄並釋放內容引用
+     *
+     * @param file 檔案
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void delete(FileRecord file) {
+        if (fileMapper.deleteById(file.getId()) > 0) {
+            fileMapper.releaseObject(file.getObjectId());
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package dowob.xyz.blog.module.file.service;
+
+import dowob.xyz.blog.common.api.enums.FileCategory;
+import dowob.xyz.blog.common.api.errorcode.CommonErrorCode;
+import dowob.xyz.blog.common.api.errorcode.FileErrorCode;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.config.MinioConfig;
+import dowob.xyz.blog.module.file.config.FileUploadConfig;
+import dowob.xyz.blog.module.file.mapper.FileMapper;
+import dowob.xyz.blog.module.file.model.FileRecord;
+import dowob.xyz.blog.module.file.model.dto.response.FileResponse;
+import dowob.xyz.blog.module.file.model.projection.FileObjectRef;
+import io.minio.BucketExistsArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 檔案上傳服務
+ * <p>
+ * 請求本文直接串流進 MinIO：大小未知時以 Multipart Upload 上傳，
+ * 每個上傳同時只緩衝一個分段 ({@code file.upload.part-size})，記憶體用量與檔案大小無關，
+ * 也不會先落地成暫存檔。大小與 SHA-256 在串流經過時同步計算，物件寫入完成後才新增 files 記錄；
+ * 新增失敗時刪除已上傳的物件。
+ * </p>
+ * <p>
+ * 內容以 (SHA-256, 大小) 去重：相同內容只保留最先上傳的物件，重複上傳的物件在登記後立即刪除。
+ * 客戶端先宣告雜湊與長度時，若上傳者自己已有相同內容，直接引用而不讀取請求本文 (節省上傳頻寬)。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileUploadService {
+
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM");
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final MinioClient minioClient;
+    private final MinioConfig minioConfig;
+    private final FileUploadConfig config;
+    private final FileMapper fileMapper;
+    private final FileObjectService fileObjectService;
+
+    /**
+     * 串流上傳檔案
+     *
+     * @param uploaderId    上傳者 ID
+     * @param body          請求本文 (檔案內容)
+     * @param contentLength 請求宣告的長度，未知時為 -1
+     * @param claimedSha256 客戶端宣告的內容 SHA-256 (十六進位)，未宣告時為 null
+     * @param originalName  原始檔名
+     * @param contentType   內容類型
+     * @param category      分類
+     * @return 檔案資訊
+     */
+    public FileResponse upload(Long uploaderId, InputStream body, long contentLength, String claimedSha256,
+            String originalName, String contentType, FileCategory category) {
+        String name = sanitizeName(originalName);
+        String type = validateContentType(contentType, category);
+        long maxBytes = config.getMaxSize().toBytes();
+        if (contentLength > maxBytes) {
+            throw new BusinessException(FileErrorCode.FILE_TOO_LARGE);
+        }
+
+        FileRecord file = new FileRecord();
+        file.setUploaderId(uploaderId);
+        file.setOriginalName(name);
+        file.setContentType(type);
+        file.setCategory(category);
+
+        if (StringUtils.hasText(claimedSha256) && contentLength > 0) {
+            String sha256 = claimedSha256.strip().toLowerCase(Locale.ROOT);
+            if (!SHA256_HEX.matcher(sha256).matches()) {
+                throw new BusinessException(FileErrorCode.FILE_HASH_INVALID);
+            }
+            file.setContentSha256(sha256);
+            file.setSizeBytes(contentLength);
+            if (fileObjectService.attachOwned(file)) {
+                // 未讀取請求本文：客戶端使用 Expect: 100-continue 時不會送出內容
+                return toResponse(file, true);
+            }
+        }
+
+        String storageKey = category.name().toLowerCase(Locale.ROOT) + "/" + LocalDate.now().format(KEY_DATE_FORMAT)
+                + "/" + UUID.randomUUID();
+        MessageDigest digest = sha256();
+        CountingInputStream counting = new CountingInputStream(body, maxBytes);
+        try (InputStream stream = new DigestInputStream(counting, digest)) {
+            minioClient.putObject(PutObjectArgs.builder()
+                    .bucket(minioConfig.getBucketName())
+                    .object(storageKey)
+                    .stream(stream, -1, config.getPartSize().toBytes())
+                    .contentType(type)
+                    .build());
+        } catch (Exception e) {
+            if (counting.isLimitExceeded()) {
+                throw new BusinessException(FileErrorCode.FILE_TOO_LARGE);
+            }
+            log.error("Failed to upload {} to object storage", storageKey, e);
+            throw new BusinessException(CommonErrorCode.STORAGE_ERROR);
+        }
+
+        if (counting.getCount() == 0) {
+            removeQuietly(storageKey);
+            throw new BusinessException(FileErrorCode.FILE_EMPTY);
+        }
+
+        file.setStorageKey(storageKey);
+        file.setSizeBytes(counting.getCount());
+        file.setContentSha256(HexFormat.of().formatHex(digest.digest()));
+        FileObjectRef ref;
+        try {
+            ref = fileObjectService.register(file);
+        } catch (RuntimeException e) {
+            removeQuietly(storageKey);
+            throw e;
+        }
+        if (!ref.isInserted()) {
+            // 內容已存在，改為引用既有物件，剛上傳的副本不再需要
+            removeQuietly(storageKey);
+        }
+        return toResponse(file, !ref.isInserted());
+    }
+
+    /**
+     * 刪除檔案 (僅上傳者或管理員)；內容物件在沒有任何檔案引用且超過保留時間後由 GC 刪除
+     *
+     * @param uuid    檔案 UUID
+     * @param userId  操作者 ID
+     * @param isAdmin 操作者是否為管理員
+     */
+    public void delete(UUID uuid, Long userId, boolean isAdmin) {
+        FileRecord file = fileMapper.findByUuid(uuid);
+        if (file == null) {
+            throw new BusinessException(FileErrorCode.FILE_NOT_FOUND);
+        }
+        if (!file.getUploaderId().equals(userId) && !isAdmin) {
+            throw new BusinessException(FileErrorCode.FILE_ACCESS_DENIED);
+        }
+        fileObjectService.delete(file);
+    }
+
+    /**
+     * 啟動時確認儲存桶存在
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureBucket() {
+        String bucket = minioConfig.getBucketName();
+        try {
+            if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build())) {
+                minioClient.makeBucket(MakeBucketArgs.builder().bucket(bucket).build());
+                log.info("Created MinIO bucket {}", bucket);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to ensure MinIO bucket {}: {}", bucket, e.getMessage());
+        }
+    }
+
+    private void removeQuietly(String storageKey) {
+        try {
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(minioConfig.getBucketName())
+                    .object(storageKey)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to remove orphan object {}: {}", storageKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 去除路徑與控制字元，只保留檔名本身
+     */
+    private static String sanitizeName(String originalName) {
+        String name = originalName == null ? "" : originalName.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1).replaceAll("\\p{Cntrl}", "").strip();
+        if (!StringUtils.hasText(name) || name.length() > MAX_NAME_LENGTH) {
+            throw new BusinessException(FileErrorCode.FILE_NAME_INVALID);
+        }
+        return name;
+    }
+
+    private static String validateContentType(String contentType, FileCategory category) {
+        String type = StringUtils.hasText(contentType)
+                ? contentType.split(";")[0].strip().toLowerCase(Locale.ROOT)
+                : "application/octet-stream";
+        if (type.startsWith("multipart/") || (category.isImageOnly() && !type.startsWith("image/"))) {
+            throw new BusinessException(FileErrorCode.FILE_TYPE_NOT_ALLOWED);
+        }
+        return type;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static FileResponse toResponse(FileRecord file, boolean deduplicated) {
+        FileResponse response = new FileResponse();
+        response.setUuid(file.getUuid());
+        response.setOriginalName(file.getOriginalName());
+        response.setContentType(file.getContentType());
+        response.setSizeBytes(file.getSizeBytes());
+        response.setCategory(file.getCategory());
+        response.setSha256(file.getContentSha256());
+        response.setDeduplicated(deduplicated);
+        response.setCreatedAt(file.getCreatedAt());
+        return response;
+    }
+
+    /**
+     * 計數並限制讀取量的輸入流 (超過上限時以 IOException 中斷上傳)
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+        private boolean limitExceeded;
+
+        CountingInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                advance(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                advance(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            throw new IOException("skip is not supported");
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        boolean isLimitExceeded() {
+            return limitExceeded;
+        }
+
+        private void advance(long n) throws IOException {
+            count += n;
+            if (count > limit) {
+                limitExceeded = true;
+                throw new IOException("Upload exceeds " + limit + " bytes");
+            }
+        }
+    }
+}
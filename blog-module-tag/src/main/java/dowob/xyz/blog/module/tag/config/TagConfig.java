@@ -0,0 +1,103 @@
+package dowob.xyz.blog.module.tag.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 標籤配置
+ *
+ * <p>
+ * 從 application.yaml 的 tag.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * tag:
+ *   max-per-article: 10
+ *   cloud-size: 100
+ *   cloud-refresh-delay: 1s
+ *   cloud-refresh-interval: 300000
+ *   suggest-max-results: 20
+ *   suggest-precomputed-prefix-length: 2
+ *   suggest-rebuild-interval: 3600000
+ *   posting-rebuild-interval: 3600000
+ *   verify-interval: 600000
+ *   verify-batch-size: 1000
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "tag")
+public class TagConfig {
+
+    /**
+     * 每篇文章最多標籤數
+     */
+    @Min(value = 1, message = "tag.max-per-article 必須介於 1-50")
+    @Max(value = 50, message = "tag.max-per-article 必須介於 1-50")
+    private int maxPerArticle = 10;
+
+    /**
+     * 標籤雲快照保留的標籤數 (請求的 limit 不會超過此值)
+     */
+    @Min(value = 1, message = "tag.cloud-size 必須大於 0")
+    private int cloudSize = 100;
+
+    /**
+     * 收到變更事件後延遲多久重新載入標籤雲快照與自動完成索引 (期間的其他事件合併為一次載入)
+     */
+    @NotNull(message = "tag.cloud-refresh-delay 不可為空")
+    private Duration cloudRefreshDelay = Duration.ofSeconds(1);
+
+    /**
+     * 快照定期重新載入間隔 (毫秒)，作為遺失事件時的保底
+     */
+    private long cloudRefreshInterval = 300000;
+
+    /**
+     * 自動完成單次最多回傳的建議數
+     */
+    @Min(value = 1, message = "tag.suggest-max-results 必須大於 0")
+    private int suggestMaxResults = 20;
+
+    /**
+     * 預先計算前 N 名的前綴最大長度 (較短的前綴命中大部分標籤，不適合逐次範圍掃描)
+     */
+    @Min(value = 0, message = "tag.suggest-precomputed-prefix-length 不可小於 0")
+    @Max(value = 3, message = "tag.suggest-precomputed-prefix-length 不可大於 3")
+    private int suggestPrecomputedPrefixLength = 2;
+
+    /**
+     * 自動完成索引完整重建間隔 (毫秒)，作為遺失事件時的保底
+     */
+    private long suggestRebuildInterval = 3600000;
+
+    /**
+     * 標籤倒排索引完整重建間隔 (毫秒)，Redis 快照保留兩倍間隔
+     */
+    @Min(value = 1, message = "tag.posting-rebuild-interval 必須大於 0")
+    private long postingRebuildInterval = 3600000;
+
+    /**
+     * 使用數校驗間隔 (毫秒)
+     */
+    private long verifyInterval = 600000;
+
+    /**
+     * 使用數校驗每次處理的標籤 ID 區間大小
+     */
+    @Min(value = 1, message = "tag.verify-batch-size 必須大於 0")
+    private int verifyBatchSize = 1000;
+}
@@ -0,0 +1,35 @@
+package dowob.xyz.blog.module.tag.config;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 標籤模組 RabbitMQ 拓撲 (Exchange / Queue / Binding)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Configuration
+public class TagMqConfig {
+
+    @Bean
+    public DirectExchange tagExchange() {
+        return new DirectExchange(MqConstant.TAG_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue tagUsageQueue() {
+        return QueueBuilder.durable(MqConstant.TAG_USAGE_QUEUE).build();
+    }
+
+    @Bean
+    public Binding tagUsageBinding() {
+        return BindingBuilder.bind(tagUsageQueue()).to(tagExchange()).with(MqConstant.TAG_USAGE_ROUTING_KEY);
+    }
+}
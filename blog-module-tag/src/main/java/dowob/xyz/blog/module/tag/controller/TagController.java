@@ -0,0 +1,45 @@
+package dowob.xyz.blog.module.tag.controller;
+
+import dowob.xyz.blog.common.api.response.ApiResponse;
+import dowob.xyz.blog.module.tag.model.dto.response.TagCloudResponse;
+import dowob.xyz.blog.module.tag.model.dto.response.TagSuggestionResponse;
+import dowob.xyz.blog.module.tag.service.TagCloudService;
+import dowob.xyz.blog.module.tag.service.TagSuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 標籤控制器
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Tag(name = "Tag", description = "標籤相關 API")
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagCloudService tagCloudService;
+    private final TagSuggestService tagSuggestService;
+
+    @Operation(summary = "標籤雲", description = "使用數最高的標籤 (記憶體快照，變更後數秒內更新)")
+    @GetMapping("/cloud")
+    public ApiResponse<List<TagCloudResponse>> cloud(@RequestParam(defaultValue = "50") int limit) {
+        return ApiResponse.success(tagCloudService.top(limit));
+    }
+
+    @Operation(summary = "標籤自動完成", description = "依名稱或 Slug 前綴建議標籤，依使用數排序 (記憶體索引，不查 DB)")
+    @GetMapping("/suggest")
+    public ApiResponse<List<TagSuggestionResponse>> suggest(@RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ApiResponse.success(tagSuggestService.suggest(q, limit));
+    }
+}
@@ -0,0 +1,33 @@
+package dowob.xyz.blog.module.tag.listener;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.module.tag.model.event.TagUsageEvent;
+import dowob.xyz.blog.module.tag.service.TagUsageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 標籤使用數事件批次消費者
+ * <p>
+ * 回寫失敗時拋出例外，容器在本地以指數退避重試整批最多 {@code mq.batch.max-attempts} 次
+ * (整批在同一交易內回寫，失敗的嘗試不會留下部分增量)；仍失敗則整批轉存至死信佇列 {@link MqConstant#DEAD_LETTER_QUEUE}，
+ * 不再重新投遞，遺漏的增量由 {@code TagUsageVerifier} 校驗修正。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class TagUsageEventListener {
+
+    private final TagUsageService tagUsageService;
+
+    @RabbitListener(queues = MqConstant.TAG_USAGE_QUEUE, containerFactory = MqConstant.BATCH_LISTENER_FACTORY)
+    public void onEvents(List<TagUsageEvent> events) {
+        tagUsageService.apply(events);
+    }
+}
@@ -0,0 +1,289 @@
+package dowob.xyz.blog.module.tag.mapper;
+
+import dowob.xyz.blog.infrastructure.reconcile.CountDrift;
+import dowob.xyz.blog.module.tag.model.TagUsageDelta;
+import dowob.xyz.blog.module.tag.model.projection.ArticleTagPosting;
+import dowob.xyz.blog.module.tag.model.projection.TagInfo;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 標籤 Mapper
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Mapper
+public interface TagMapper {
+
+    /**
+     * 批次建立標籤 (名稱或 Slug 已存在時略過)
+     *
+     * @param tags 標籤 (name / slug)
+     * @return 實際新增筆數
+     */
+    @Insert("""
+            <script>
+            INSERT INTO tags (name, slug) VALUES
+            <foreach collection="tags" item="t" separator=",">(#{t.name}, #{t.slug})</foreach>
+            ON CONFLICT DO NOTHING
+            </script>
+            """)
+    int insertIgnore(@Param("tags") List<TagInfo> tags);
+
+    /**
+     * 依 Slug 批次查詢標籤
+     *
+     * @param slugs Slug
+     * @return 標籤
+     */
+    @Select("""
+            <script>
+            SELECT id, name, slug, color, usage_count FROM tags
+            WHERE slug IN
+            <foreach collection="slugs" item="slug" open="(" separator="," close=")">#{slug}</foreach>
+            </script>
+            """)
+    List<TagInfo> findBySlugs(@Param("slugs") Collection<String> slugs);
+
+    /**
+     * 依 ID 批次查詢標籤
+     *
+     * @param ids 標籤 ID
+     * @return 標籤 (已刪除的 ID 不會回傳)
+     */
+    @Select("""
+            <script>
+            SELECT id, name, slug, color, usage_count FROM tags
+            WHERE id IN
+            <foreach collection="ids" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    List<TagInfo> findByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset 分頁掃描所有標籤
+     *
+     * @param afterId 上一頁最後的 ID (首頁為 0)
+     * @param limit   每頁筆數
+     * @return 標籤 (依 ID 遞增)
+     */
+    @Select("""
+            SELECT id, name, slug, color, usage_count FROM tags
+            WHERE id > #{afterId}
+            ORDER BY id
+            LIMIT #{limit}
+            """)
+    List<TagInfo> findPage(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 查詢文章目前的標籤
+     *
+     * @param articleId 文章 ID
+     * @return 標籤
+     */
+    @Select("""
+            SELECT t.id, t.name, t.slug, t.color, t.usage_count
+            FROM article_tags at
+            JOIN tags t ON t.id = at.tag_id
+            WHERE at.article_id = #{articleId}
+            """)
+    List<TagInfo> findByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 新增文章標籤關聯
+     *
+     * @param articleId 文章 ID
+     * @param tagIds    標籤 ID
+     * @return 實際新增的標籤 ID (已存在的關聯不會回傳)
+     */
+    @Select("""
+            <script>
+            INSERT INTO article_tags (article_id, tag_id) VALUES
+            <foreach collection="tagIds" item="id" separator=",">(#{articleId}, #{id})</foreach>
+            ON CONFLICT DO NOTHING
+            RETURNING tag_id
+            </script>
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Long> insertArticleTags(@Param("articleId") Long articleId, @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 刪除文章標籤關聯
+     *
+     * @param articleId 文章 ID
+     * @param tagIds    標籤 ID
+     * @return 實際刪除的標籤 ID
+     */
+    @Select("""
+            <script>
+            DELETE FROM article_tags
+            WHERE article_id = #{articleId} AND tag_id IN
+            <foreach collection="tagIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            RETURNING tag_id
+            </script>
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Long> deleteArticleTags(@Param("articleId") Long articleId, @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 查詢文章目前的標籤與發布狀態 (不存在的文章不會回傳)
+     *
+     * @param articleIds 文章 ID
+     * @return 每篇文章的每個標籤一列，沒有標籤的文章回傳 tag_id 為 null 的一列
+     */
+    @Select("""
+            <script>
+            SELECT a.id AS article_id, at.tag_id, a.status = 'PUBLISHED' AS published
+            FROM articles a
+            LEFT JOIN article_tags at ON at.article_id = a.id
+            WHERE a.id IN
+            <foreach collection="articleIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    List<ArticleTagPosting> findPostings(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * 以 (article_id, tag_id) Keyset 分頁掃描已發布文章的標籤關聯 (主鍵索引)
+     *
+     * @param afterArticleId 上一頁最後的文章 ID (首頁為 0)
+     * @param afterTagId     上一頁最後的標籤 ID (首頁為 0)
+     * @param limit          每頁筆數
+     * @return 標籤關聯 (依 article_id, tag_id 遞增)
+     */
+    @Select("""
+            SELECT at.article_id, at.tag_id, TRUE AS published
+            FROM article_tags at
+            JOIN articles a ON a.id = at.article_id AND a.status = 'PUBLISHED'
+            WHERE (at.article_id, at.tag_id) > (#{afterArticleId}, #{afterTagId})
+            ORDER BY at.article_id, at.tag_id
+            LIMIT #{limit}
+            """)
+    List<ArticleTagPosting> findPublishedPostingPage(@Param("afterArticleId") long afterArticleId,
+            @Param("afterTagId") long afterTagId, @Param("limit") int limit);
+
+    /**
+     * Keyset 分頁掃描已發布文章 ID
+     *
+     * @param afterId 上一頁最後的文章 ID (首頁為 0)
+     * @param limit   每頁筆數
+     * @return 文章 ID (遞增)
+     */
+    @Select("""
+            SELECT id FROM articles
+            WHERE status = 'PUBLISHED' AND id > #{afterId}
+            ORDER BY id
+            LIMIT #{limit}
+            """)
+    List<Long> findPublishedArticleIds(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 查詢指定時間後更新過的文章 ID (載入索引快照後補上快照之後的變更)
+     *
+     * @param since 起始時間 (含)
+     * @return 文章 ID
+     */
+    @Select("SELECT id FROM articles WHERE updated_at >= #{since}")
+    List<Long> findArticleIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 依 ID 遞增順序鎖定標籤列 (需在交易內呼叫，UPDATE ... FROM (VALUES ...) 本身不保證鎖定順序)
+     *
+     * @param tagIds 標籤 ID
+     * @return 實際鎖定的標籤 ID
+     */
+    @Select("""
+            <script>
+            SELECT id FROM tags
+            WHERE id IN
+            <foreach collection="tagIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            ORDER BY id
+            FOR UPDATE
+            </script>
+            """)
+    List<Long> lockByIds(@Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 批次累加使用數 (單一語句，呼叫方應先以 {@link #lockByIds} 依固定順序鎖定)
+     *
+     * @param deltas 各標籤的增量
+     * @return 影響行數
+     */
+    @Update("""
+            <script>
+            UPDATE tags AS t
+            SET usage_count = GREATEST(t.usage_count + v.delta, 0)
+            FROM (VALUES
+            <foreach collection="deltas" item="d" separator=",">
+                (#{d.tagId}::BIGINT, #{d.delta}::BIGINT)
+            </foreach>
+            ) AS v(id, delta)
+            WHERE t.id = v.id
+            </script>
+            """)
+    int addUsageCounts(@Param("deltas") List<TagUsageDelta> deltas);
+
+    /**
+     * 查詢使用數最高的標籤 (idx_tags_usage)
+     *
+     * @param limit 數量
+     * @return 標籤 (依使用數遞減)
+     */
+    @Select("""
+            SELECT id, name, slug, color, usage_count FROM tags
+            WHERE usage_count > 0
+            ORDER BY usage_count DESC, id
+            LIMIT #{limit}
+            """)
+    List<TagInfo> findTop(@Param("limit") int limit);
+
+    /**
+     * 找出 ID 區間內 usage_count 與 article_tags 實際筆數不一致的標籤
+     *
+     * @param fromId 起始 ID (含)
+     * @param toId   結束 ID (含)
+     * @return 不一致的標籤
+     */
+    @Select("""
+            SELECT t.id, t.usage_count AS stored_count, COALESCE(c.cnt, 0) AS actual_count
+            FROM tags t
+            LEFT JOIN (SELECT tag_id, COUNT(*) AS cnt
+                       FROM article_tags
+                       WHERE tag_id BETWEEN #{fromId} AND #{toId}
+                       GROUP BY tag_id) c ON c.tag_id = t.id
+            WHERE t.id BETWEEN #{fromId} AND #{toId} AND t.usage_count <> COALESCE(c.cnt, 0)
+            """)
+    List<CountDrift> findUsageDrift(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 以 article_tags 重新計算指定標籤的使用數
+     *
+     * @param tagIds 標籤 ID
+     * @return 影響行數
+     */
+    @Update("""
+            <script>
+            UPDATE tags t
+            SET usage_count = (SELECT COUNT(*) FROM article_tags at WHERE at.tag_id = t.id)
+            WHERE t.id IN
+            <foreach collection="tagIds" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    int refreshUsageCounts(@Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 目前最大的標籤 ID
+     *
+     * @return 最大 ID，無標籤時為 0
+     */
+    @Select("SELECT COALESCE(MAX(id), 0) FROM tags")
+    long maxId();
+}
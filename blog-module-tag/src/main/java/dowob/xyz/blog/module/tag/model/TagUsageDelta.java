@@ -0,0 +1,12 @@
+package dowob.xyz.blog.module.tag.model;
+
+/**
+ * 標籤使用數增量 (批次回寫用)
+ *
+ * @param tagId 標籤 ID
+ * @param delta 增量
+ * @author Yuan
+ * @version 1.0
+ */
+public record TagUsageDelta(Long tagId, long delta) {
+}
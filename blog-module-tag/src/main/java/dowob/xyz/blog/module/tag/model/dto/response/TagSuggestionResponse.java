@@ -0,0 +1,28 @@
+package dowob.xyz.blog.module.tag.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 標籤自動完成建議回應 DTO
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "標籤自動完成建議")
+public class TagSuggestionResponse {
+    @Schema(description = "名稱")
+    private String name;
+
+    @Schema(description = "Slug")
+    private String slug;
+
+    @Schema(description = "顏色 (#RRGGBB)")
+    private String color;
+
+    @Schema(description = "使用此標籤的文章數")
+    private long usageCount;
+}
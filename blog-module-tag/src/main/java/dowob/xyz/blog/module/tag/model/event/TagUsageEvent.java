@@ -0,0 +1,16 @@
+package dowob.xyz.blog.module.tag.model.event;
+
+/**
+ * 標籤使用數變更事件 (RabbitMQ)
+ * <p>
+ * 文章標籤變更的交易提交後投遞，消費端依標籤彙總增量後批次回寫；
+ * 重送或遺失造成的偏差由 {@code TagUsageVerifier} 定期修正。
+ * </p>
+ *
+ * @param tagId 標籤 ID
+ * @param delta 增量 (實際新增 / 刪除的 article_tags 筆數)
+ * @author Yuan
+ * @version 1.0
+ */
+public record TagUsageEvent(Long tagId, int delta) {
+}
@@ -0,0 +1,24 @@
+package dowob.xyz.blog.module.tag.model.projection;
+
+import lombok.Data;
+
+/**
+ * 文章標籤倒排索引列投影
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class ArticleTagPosting {
+    private Long articleId;
+
+    /**
+     * 標籤 ID，文章沒有標籤時為 null
+     */
+    private Long tagId;
+
+    /**
+     * 文章是否已發布
+     */
+    private boolean published;
+}
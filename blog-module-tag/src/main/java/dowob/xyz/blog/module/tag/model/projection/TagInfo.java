@@ -0,0 +1,18 @@
+package dowob.xyz.blog.module.tag.model.projection;
+
+import lombok.Data;
+
+/**
+ * 標籤投影
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class TagInfo {
+    private Long id;
+    private String name;
+    private String slug;
+    private String color;
+    private long usageCount;
+}
@@ -0,0 +1,135 @@
+package dowob.xyz.blog.module.tag.service;
+
+import dowob.xyz.blog.common.api.errorcode.TagErrorCode;
+import dowob.xyz.blog.common.exception.BusinessException;
+import dowob.xyz.blog.infrastructure.tag.ArticleTagService;
+import dowob.xyz.blog.module.tag.config.TagConfig;
+import dowob.xyz.blog.module.tag.mapper.TagMapper;
+import dowob.xyz.blog.module.tag.model.event.TagUsageEvent;
+import dowob.xyz.blog.module.tag.model.projection.TagInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Infrastructure 文章標籤服務實作
+ * <p>
+ * 儲存文章時比對新舊標籤集合，只新增/刪除差異的關聯；實際變更的關聯數以 {@link TagUsageEvent}
+ * 於交易提交後發布，由 {@link TagUsageService} 非同步彙總回寫 usage_count，
+ * 編輯文章不會同步鎖住熱門標籤的列。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleTagServiceImpl implements ArticleTagService {
+
+    private static final int MAX_NAME_LENGTH = 50;
+    private static final int MAX_SLUG_LENGTH = 60;
+
+    private final TagMapper tagMapper;
+    private final TagConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public List<TagBrief> replaceTags(Long articleId, Collection<String> tagNames) {
+        Map<String, String> wanted = normalize(tagNames);
+        if (wanted.size() > config.getMaxPerArticle()) {
+            throw new BusinessException(TagErrorCode.TAG_LIMIT_EXCEEDED);
+        }
+
+        List<TagInfo> target = resolve(wanted);
+        Set<Long> targetIds = target.stream().map(TagInfo::getId).collect(Collectors.toSet());
+        Set<Long> currentIds = tagMapper.findByArticleId(articleId).stream()
+                .map(TagInfo::getId)
+                .collect(Collectors.toSet());
+
+        Set<Long> toAdd = new HashSet<>(targetIds);
+        toAdd.removeAll(currentIds);
+        Set<Long> toRemove = new HashSet<>(currentIds);
+        toRemove.removeAll(targetIds);
+
+        // 以實際寫入的筆數計算增量，並發的重複儲存不會重複計數
+        if (!toAdd.isEmpty()) {
+            tagMapper.insertArticleTags(articleId, toAdd)
+                    .forEach(tagId -> eventPublisher.publishEvent(new TagUsageEvent(tagId, 1)));
+        }
+        if (!toRemove.isEmpty()) {
+            tagMapper.deleteArticleTags(articleId, toRemove)
+                    .forEach(tagId -> eventPublisher.publishEvent(new TagUsageEvent(tagId, -1)));
+        }
+
+        return target.stream()
+                .sorted(Comparator.comparing(TagInfo::getName))
+                .map(tag -> new TagBrief(tag.getName(), tag.getSlug()))
+                .toList();
+    }
+
+    /**
+     * 取得標籤，不存在的先批次建立 (並發建立同名標籤時以先寫入者為準)
+     */
+    private List<TagInfo> resolve(Map<String, String> wanted) {
+        if (wanted.isEmpty()) {
+            return List.of();
+        }
+        Map<String, TagInfo> found = tagMapper.findBySlugs(wanted.keySet()).stream()
+                .collect(Collectors.toMap(TagInfo::getSlug, Function.identity()));
+        if (found.size() < wanted.size()) {
+            List<TagInfo> drafts = new ArrayList<>();
+            wanted.forEach((slug, name) -> {
+                if (!found.containsKey(slug)) {
+                    TagInfo draft = new TagInfo();
+                    draft.setName(name);
+                    draft.setSlug(slug);
+                    drafts.add(draft);
+                }
+            });
+            tagMapper.insertIgnore(drafts);
+            tagMapper.findBySlugs(drafts.stream().map(TagInfo::getSlug).toList())
+                    .forEach(tag -> found.put(tag.getSlug(), tag));
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    /**
+     * 正規化標籤名稱並以 Slug 去重 (保留第一次出現的寫法)
+     *
+     * @return Slug -> 名稱
+     */
+    private static Map<String, String> normalize(Collection<String> tagNames) {
+        Map<String, String> normalized = new LinkedHashMap<>();
+        for (String raw : tagNames) {
+            String name = raw == null ? "" : Normalizer.normalize(raw, Normalizer.Form.NFKC).strip().replaceAll("\\s+", " ");
+            String slug = slugify(name);
+            if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || slug.isEmpty() || slug.length() > MAX_SLUG_LENGTH) {
+                throw new BusinessException(TagErrorCode.TAG_NAME_INVALID);
+            }
+            normalized.putIfAbsent(slug, name);
+        }
+        return normalized;
+    }
+
+    private static String slugify(String name) {
+        return name.toLowerCase()
+                .replace("+", "-plus-")
+                .replace("#", "-sharp-")
+                .replaceAll("[^\\p{L}\\p{N}]+", "-")
+                .replaceAll("(^-+|-+$)", "");
+    }
+}
@@ -0,0 +1,125 @@
+package dowob.xyz.blog.module.tag.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.module.tag.config.TagConfig;
+import dowob.xyz.blog.module.tag.mapper.TagMapper;
+import dowob.xyz.blog.module.tag.model.dto.response.TagCloudResponse;
+import dowob.xyz.blog.module.tag.model.projection.TagInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 標籤雲服務
+ * <p>
+ * 使用數最高的前 N 個標籤保存在記憶體快照中 (不可變列表整體替換，讀取端無鎖)，
+ * 請求不查 DB 也不做 GROUP BY。使用數變更後經 Redis Pub/Sub ({@code tag:events}) 通知所有 Pod，
+ * 各 Pod 在短暫延遲後重新載入一次 (延遲期間的事件合併)；定期重新載入作為遺失訊息時的保底。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class TagCloudService implements MessageListener {
+
+    private final TagMapper tagMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final TaskScheduler taskScheduler;
+    private final TagConfig config;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    private volatile List<TagCloudResponse> snapshot = List.of();
+
+    public TagCloudService(TagMapper tagMapper,
+            StringRedisTemplate redisTemplate,
+            TaskScheduler taskScheduler,
+            RedisMessageListenerContainer listenerContainer,
+            TagConfig config) {
+        this.tagMapper = tagMapper;
+        this.redisTemplate = redisTemplate;
+        this.taskScheduler = taskScheduler;
+        this.config = config;
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstant.TAG_EVENTS_CHANNEL));
+    }
+
+    /**
+     * 取得標籤雲
+     *
+     * @param limit 數量 (不超過 tag.cloud-size)
+     * @return 使用數最高的標籤
+     */
+    public List<TagCloudResponse> top(int limit) {
+        List<TagCloudResponse> current = snapshot;
+        return current.subList(0, Math.clamp(limit, 0, current.size()));
+    }
+
+    /**
+     * 通知所有 Pod 標籤使用數已變更
+     *
+     * @param tagIds 變更的標籤 ID
+     */
+    public void publishChanged(Collection<Long> tagIds) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyConstant.TAG_EVENTS_CHANNEL,
+                    tagIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("Failed to publish tag change, refreshing local snapshot only: {}", e.getMessage());
+            scheduleRefresh();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        scheduleRefresh();
+    }
+
+    /**
+     * 啟動時載入快照
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        refresh();
+    }
+
+    /**
+     * 定期重新載入快照
+     */
+    @Scheduled(fixedDelayString = "${tag.cloud-refresh-interval:300000}",
+            initialDelayString = "${tag.cloud-refresh-interval:300000}")
+    public void refresh() {
+        try {
+            List<TagInfo> tags = tagMapper.findTop(config.getCloudSize());
+            snapshot = tags.stream()
+                    .map(tag -> new TagCloudResponse(tag.getName(), tag.getSlug(), tag.getColor(), tag.getUsageCount()))
+                    .toList();
+        } catch (Exception e) {
+            // 保留舊快照繼續服務
+            log.error("Failed to refresh tag cloud snapshot", e);
+        }
+    }
+
+    private void scheduleRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                refreshScheduled.set(false);
+                refresh();
+            }, Instant.now().plus(config.getCloudRefreshDelay()));
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package dowob.xyz.blog.module.tag.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.tag.TaggedArticleIndex;
+import dowob.xyz.blog.module.tag.config.TagConfig;
+import dowob.xyz.blog.module.tag.mapper.TagMapper;
+import dowob.xyz.blog.module.tag.model.projection.ArticleTagPosting;
+import dowob.xyz.blog.module.tag.model.projection.TagInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 標籤倒排索引 (Roaring Bitmap)
+ * <p>
+ * 每個標籤保存一個已發布文章 ID 的壓縮點陣圖，另保存所有已發布文章的點陣圖作為 NOT 的全集；
+ * AND / OR / NOT 組合為點陣圖運算，結果的基數與第 N 筆 (rank / select) 皆不需掃描。
+ * 點陣圖與對照表一經發布就不再修改 (寫入時複製)，每次變更都以單一 {@code snapshot} 指派整體發布，
+ * 讀取端無鎖且不會看到套用到一半的更新。
+ * </p>
+ * <ul>
+ *     <li>文章的標籤或發布狀態變更提交後經 Redis Pub/Sub ({@code tag:postings}) 通知所有 Pod，
+ *         各 Pod 合併短時間內的事件後只重新載入這些文章，依「文章 -> 標籤」反向對照找出受影響的標籤，
+ *         只複製並替換這些標籤的點陣圖</li>
+ *     <li>完整重建以 Keyset 分頁掃描 article_tags，完成後將快照序列化寫入 Redis，
+ *         其他 Pod 啟動時直接載入快照，只需重新載入已發布清單與快照之後更新過的文章</li>
+ *     <li>查詢結果一律與已發布點陣圖取交集，點陣圖中殘留已刪除或下架的文章不會被回傳</li>
+ * </ul>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class TagPostingIndex implements TaggedArticleIndex, MessageListener {
+
+    private static final int SCAN_PAGE_SIZE = 5000;
+    private static final int SNAPSHOT_FORMAT = 1;
+    private static final long[] NO_TAGS = new long[0];
+
+    /**
+     * 快照之後的補載回溯時間 (涵蓋寫入快照與提交時間的時鐘差)
+     */
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final TagMapper tagMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final TaskScheduler taskScheduler;
+    private final TagConfig config;
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean applyScheduled = new AtomicBoolean();
+
+    /**
+     * 載入、完整重建與增量套用互斥 (持有期間會查詢 DB 與 Redis，使用 ReentrantLock 而非 synchronized，
+     * 虛擬執行緒不會釘住載體執行緒)
+     */
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    /**
+     * 已發布文章 ID -> 標籤 ID 反向對照 (增量套用時找出受影響的標籤)
+     * <p>
+     * 讀取端不使用，因此不放入快照；只由持有 {@link #indexLock} 的寫入者存取，且在新快照發布後才更新，
+     * 套用失敗時與索引保持一致。
+     * </p>
+     */
+    private Map<Long, long[]> tagsByArticle = new HashMap<>();
+
+    public TagPostingIndex(TagMapper tagMapper,
+            StringRedisTemplate redisTemplate,
+            TaskScheduler taskScheduler,
+            RedisMessageListenerContainer listenerContainer,
+            TagConfig config) {
+        this.tagMapper = tagMapper;
+        this.redisTemplate = redisTemplate;
+        this.taskScheduler = taskScheduler;
+        this.config = config;
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstant.TAG_POSTINGS_CHANNEL));
+    }
+
+    @Override
+    public ArticleIdPage find(TagFilter filter, Long beforeId, int size) {
+        Snapshot current = snapshot;
+
+        // 快照中的點陣圖為共用唯讀，只在複製出的結果上運算 (rank / select 會寫入內部快取)
+        Roaring64NavigableMap result = null;
+        for (String slug : filter.allOf()) {
+            Roaring64NavigableMap postings = current.postings(slug);
+            if (postings == null) {
+                return new ArticleIdPage(List.of(), 0, false);
+            }
+            if (result == null) {
+                result = copy(postings);
+            } else {
+                result.and(postings);
+            }
+        }
+        if (result == null) {
+            result = copy(current.published());
+        } else {
+            result.and(current.published());
+        }
+        if (!filter.anyOf().isEmpty()) {
+            Roaring64NavigableMap union = new Roaring64NavigableMap();
+            for (String slug : filter.anyOf()) {
+                Roaring64NavigableMap postings = current.postings(slug);
+                if (postings != null) {
+                    union.or(postings);
+                }
+            }
+            result.and(union);
+        }
+        for (String slug : filter.noneOf()) {
+            Roaring64NavigableMap postings = current.postings(slug);
+            if (postings != null) {
+                result.andNot(postings);
+            }
+        }
+
+        // 新到舊：rank 取得小於 beforeId 的筆數，再由大到小 select
+        long total = result.getLongCardinality();
+        long remaining = beforeId == null ? total : result.rankLong(beforeId - 1);
+        int count = (int) Math.min(size, remaining);
+        List<Long> ids = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            ids.add(result.select(remaining - i));
+        }
+        return new ArticleIdPage(ids, total, remaining > count);
+    }
+
+    @Override
+    public void markChanged(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(RedisKeyConstant.TAG_POSTINGS_CHANNEL,
+                    articleIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("Failed to publish posting change, applying locally only: {}", e.getMessage());
+            pendingIds.addAll(articleIds);
+            scheduleApply();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String part : body.split(",")) {
+            try {
+                pendingIds.add(Long.parseLong(part.strip()));
+            } catch (NumberFormatException e) {
+                log.warn("Ignore malformed posting event: {}", body);
+                return;
+            }
+        }
+        scheduleApply();
+    }
+
+    /**
+     * 啟動時優先載入 Redis 快照，不存在或損毀時從資料庫完整重建
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        indexLock.lock();
+        try {
+            if (loadFromSnapshot()) {
+                return;
+            }
+            rebuild();
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 載入 Redis 快照並補載快照之後更新過的文章
+     *
+     * @return 是否成功載入
+     */
+    private boolean loadFromSnapshot() {
+        try {
+            Snapshot loaded = loadSnapshot();
+            if (loaded != null) {
+                Roaring64NavigableMap published = loadPublished();
+                long publishedCount = published.getLongCardinality();
+                snapshot = new Snapshot(loaded.postingsByTag(), loaded.slugIds(), published, loaded.builtAt());
+                tagsByArticle = invert(loaded.postingsByTag());
+
+                LocalDateTime since = LocalDateTime.ofInstant(loaded.builtAt().minus(CATCH_UP_MARGIN), ZoneId.systemDefault());
+                pendingIds.addAll(tagMapper.findArticleIdsUpdatedSince(since));
+                log.info("Loaded tag posting snapshot from {} ({} tags, {} published, {} articles to catch up)",
+                        loaded.builtAt(), loaded.postingsByTag().size(), publishedCount, pendingIds.size());
+                applyPending();
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load tag posting snapshot, rebuilding from database", e);
+        }
+        return false;
+    }
+
+    /**
+     * 定期從資料庫完整重建，取得鎖的 Pod 同時寫入 Redis 快照
+     */
+    @Scheduled(fixedDelayString = "${tag.posting-rebuild-interval:3600000}",
+            initialDelayString = "${tag.posting-rebuild-interval:3600000}")
+    public void rebuild() {
+        indexLock.lock();
+        try {
+            long started = System.nanoTime();
+            Instant builtAt = Instant.now();
+            Map<Long, Roaring64NavigableMap> postings = new HashMap<>();
+            Map<Long, long[]> rebuiltTags = new HashMap<>();
+
+            long afterArticleId = 0;
+            long afterTagId = 0;
+            List<ArticleTagPosting> page;
+            do {
+                page = tagMapper.findPublishedPostingPage(afterArticleId, afterTagId, SCAN_PAGE_SIZE);
+                for (ArticleTagPosting posting : page) {
+                    postings.computeIfAbsent(posting.getTagId(), id -> new Roaring64NavigableMap())
+                            .addLong(posting.getArticleId());
+                    rebuiltTags.merge(posting.getArticleId(), new long[]{posting.getTagId()}, TagPostingIndex::concat);
+                }
+                if (!page.isEmpty()) {
+                    afterArticleId = page.getLast().getArticleId();
+                    afterTagId = page.getLast().getTagId();
+                }
+            } while (page.size() == SCAN_PAGE_SIZE);
+
+            Roaring64NavigableMap published = loadPublished();
+
+            Map<String, Long> slugIds = new HashMap<>();
+            long afterTag = 0;
+            List<TagInfo> tags;
+            do {
+                tags = tagMapper.findPage(afterTag, SCAN_PAGE_SIZE);
+                tags.forEach(tag -> slugIds.put(tag.getSlug(), tag.getId()));
+                if (!tags.isEmpty()) {
+                    afterTag = tags.getLast().getId();
+                }
+            } while (tags.size() == SCAN_PAGE_SIZE);
+
+            postings.values().forEach(Roaring64NavigableMap::runOptimize);
+            long publishedCount = published.getLongCardinality();
+            Snapshot rebuilt = new Snapshot(Collections.unmodifiableMap(postings), Collections.unmodifiableMap(slugIds),
+                    published, builtAt);
+            snapshot = rebuilt;
+            tagsByArticle = rebuiltTags;
+            log.info("Rebuilt tag posting index ({} tags, {} published) in {} ms", postings.size(),
+                    publishedCount, Duration.ofNanos(System.nanoTime() - started).toMillis());
+            saveSnapshot(rebuilt);
+        } catch (Exception e) {
+            // 保留舊索引繼續服務
+            log.error("Failed to rebuild tag posting index", e);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 以 Keyset 分頁載入所有已發布文章 ID
+     */
+    private Roaring64NavigableMap loadPublished() {
+        Roaring64NavigableMap published = new Roaring64NavigableMap();
+        long afterId = 0;
+        List<Long> page;
+        do {
+            page = tagMapper.findPublishedArticleIds(afterId, SCAN_PAGE_SIZE);
+            page.forEach(published::addLong);
+            if (!page.isEmpty()) {
+                afterId = page.getLast();
+            }
+        } while (page.size() == SCAN_PAGE_SIZE);
+        published.runOptimize();
+        return published;
+    }
+
+    /**
+     * 重新載入待處理文章的標籤與發布狀態，以寫入時複製更新受影響的點陣圖
+     * <p>
+     * 受影響的標籤由「文章 -> 標籤」反向對照與資料庫現況比對得出，只複製這些標籤的點陣圖；
+     * 另需淺複製一次標籤對照表 (與標籤數成正比，不複製點陣圖內容)。
+     * 與完整重建互斥 (避免更新寫入即將被替換的舊快照)，因此索引同時只有一個寫入者。
+     * </p>
+     */
+    void applyPending() {
+        indexLock.lock();
+        try {
+            List<Long> articleIds = new ArrayList<>(pendingIds);
+            pendingIds.removeAll(articleIds);
+            if (articleIds.isEmpty()) {
+                return;
+            }
+            try {
+                Map<Long, Set<Long>> loaded = new HashMap<>();
+                for (ArticleTagPosting posting : tagMapper.findPostings(articleIds)) {
+                    if (!posting.isPublished()) {
+                        continue;
+                    }
+                    Set<Long> tagIds = loaded.computeIfAbsent(posting.getArticleId(), id -> new HashSet<>());
+                    if (posting.getTagId() != null) {
+                        tagIds.add(posting.getTagId());
+                    }
+                }
+
+                Snapshot current = snapshot;
+                Map<Long, Roaring64NavigableMap> updated = new HashMap<>();
+                Map<Long, long[]> changedTags = new HashMap<>();
+                Roaring64NavigableMap published = copy(current.published());
+                for (Long articleId : articleIds) {
+                    long[] before = tagsByArticle.getOrDefault(articleId, NO_TAGS);
+                    Set<Long> after = loaded.getOrDefault(articleId, Set.of());
+                    for (long tagId : before) {
+                        if (!after.contains(tagId)) {
+                            mutable(current, updated, tagId).removeLong(articleId);
+                        }
+                    }
+                    for (Long tagId : after) {
+                        if (Arrays.stream(before).noneMatch(id -> id == tagId)) {
+                            mutable(current, updated, tagId).addLong(articleId);
+                        }
+                    }
+
+                    changedTags.put(articleId, after.stream().mapToLong(Long::longValue).toArray());
+                    if (loaded.containsKey(articleId)) {
+                        published.addLong(articleId);
+                    } else {
+                        published.removeLong(articleId);
+                    }
+                }
+
+                // 對照表複製一份再替換變更的項目 (只複製參照，點陣圖本身共用)，連同已發布點陣圖以單一指派發布
+                Map<String, Long> slugIds = withSlugs(current.slugIds(), updated.keySet());
+                Map<Long, Roaring64NavigableMap> postings = new HashMap<>(current.postingsByTag());
+                postings.putAll(updated);
+                snapshot = new Snapshot(Collections.unmodifiableMap(postings), slugIds, published, current.builtAt());
+                changedTags.forEach((articleId, tagIds) -> {
+                    if (tagIds.length == 0) {
+                        tagsByArticle.remove(articleId);
+                    } else {
+                        tagsByArticle.put(articleId, tagIds);
+                    }
+                });
+            } catch (Exception e) {
+                // 放回待處理集合，下一次事件或完整重建時再套用
+                pendingIds.addAll(articleIds);
+                log.error("Failed to apply article changes to tag posting index", e);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void scheduleApply() {
+        if (applyScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                applyScheduled.set(false);
+                applyPending();
+            }, Instant.now().plus(config.getCloudRefreshDelay()));
+        }
+    }
+
+    /**
+     * 取得可修改的點陣圖 (同一次套用中每個標籤只複製一次，索引中的原點陣圖不會被修改)
+     */
+    private static Roaring64NavigableMap mutable(Snapshot current, Map<Long, Roaring64NavigableMap> updated,
+            long tagId) {
+        return updated.computeIfAbsent(tagId, id -> {
+            Roaring64NavigableMap original = current.postingsByTag().get(id);
+            return original == null ? new Roaring64NavigableMap() : copy(original);
+        });
+    }
+
+    /**
+     * 補上新標籤的 Slug 對照
+     *
+     * @return 沒有新標籤時為原對照表，否則為補上新標籤的複本
+     */
+    private Map<String, Long> withSlugs(Map<String, Long> slugIds, Set<Long> tagIds) {
+        Set<Long> known = new HashSet<>(slugIds.values());
+        List<Long> unknown = tagIds.stream().filter(id -> !known.contains(id)).toList();
+        if (unknown.isEmpty()) {
+            return slugIds;
+        }
+        Map<String, Long> resolved = new HashMap<>(slugIds);
+        tagMapper.findByIds(unknown).forEach(tag -> resolved.put(tag.getSlug(), tag.getId()));
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    /**
+     * 由點陣圖還原「文章 -> 標籤」反向對照
+     */
+    private static Map<Long, long[]> invert(Map<Long, Roaring64NavigableMap> postings) {
+        Map<Long, long[]> inverted = new HashMap<>();
+        postings.forEach((tagId, bitmap) ->
+                bitmap.forEach(articleId -> inverted.merge(articleId, new long[]{tagId}, TagPostingIndex::concat)));
+        return inverted;
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] merged = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, merged, first.length, second.length);
+        return merged;
+    }
+
+    private static Roaring64NavigableMap copy(Roaring64NavigableMap source) {
+        Roaring64NavigableMap copy = new Roaring64NavigableMap();
+        copy.or(source);
+        return copy;
+    }
+
+    private void saveSnapshot(Snapshot current) {
+        long ttlMillis = config.getPostingRebuildInterval() * 2;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(RedisKeyConstant.TAG_POSTINGS_SNAPSHOT_LOCK, "1", Duration.ofMillis(ttlMillis / 2)))) {
+            // 其他 Pod 本輪已寫入
+            return;
+        }
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(buffer)) {
+                out.writeInt(SNAPSHOT_FORMAT);
+                out.writeLong(current.builtAt().toEpochMilli());
+                Map<Long, String> slugs = current.slugIds().entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
+                out.writeInt(current.postingsByTag().size());
+                for (Map.Entry<Long, Roaring64NavigableMap> entry : current.postingsByTag().entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeUTF(slugs.getOrDefault(entry.getKey(), ""));
+                    entry.getValue().serialize(out);
+                }
+            }
+            byte[] key = RedisKeyConstant.TAG_POSTINGS_SNAPSHOT_KEY.getBytes(StandardCharsets.UTF_8);
+            byte[] value = buffer.toByteArray();
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(key, value, Expiration.milliseconds(ttlMillis),
+                            RedisStringCommands.SetOption.upsert()));
+            log.info("Saved tag posting snapshot ({} bytes)", value.length);
+        } catch (Exception e) {
+            log.warn("Failed to save tag posting snapshot", e);
+        }
+    }
+
+    /**
+     * 讀取 Redis 快照 (已發布點陣圖不寫入快照，載入後一律從資料庫重新取得)
+     *
+     * @return 快照，不存在或格式不符時為 null
+     */
+    private Snapshot loadSnapshot() throws IOException {
+        byte[] key = RedisKeyConstant.TAG_POSTINGS_SNAPSHOT_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+        if (value == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            if (in.readInt() != SNAPSHOT_FORMAT) {
+                return null;
+            }
+            Instant builtAt = Instant.ofEpochMilli(in.readLong());
+            int tagCount = in.readInt();
+            Map<Long, Roaring64NavigableMap> postings = new HashMap<>(tagCount * 2);
+            Map<String, Long> slugIds = new HashMap<>(tagCount * 2);
+            for (int i = 0; i < tagCount; i++) {
+                long tagId = in.readLong();
+                String slug = in.readUTF();
+                Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+                bitmap.deserialize(in);
+                postings.put(tagId, bitmap);
+                if (!slug.isEmpty()) {
+                    slugIds.put(slug, tagId);
+                }
+            }
+            return new Snapshot(Collections.unmodifiableMap(postings), Collections.unmodifiableMap(slugIds),
+                    new Roaring64NavigableMap(), builtAt);
+        }
+    }
+
+    /**
+     * 索引快照 (唯讀，發布後不再修改)
+     * <p>
+     * 完整重建與增量套用都建立新的 Snapshot 整體替換；增量套用只複製對照表 (參照) 與變更的點陣圖，
+     * 未變更的點陣圖在新舊快照之間共用。
+     * </p>
+     *
+     * @param postingsByTag 標籤 ID -> 文章 ID 點陣圖
+     * @param slugIds       標籤 Slug -> 標籤 ID
+     * @param published     所有已發布文章 ID
+     * @param builtAt       最近一次完整重建時間
+     */
+    private record Snapshot(Map<Long, Roaring64NavigableMap> postingsByTag,
+                            Map<String, Long> slugIds,
+                            Roaring64NavigableMap published, Instant builtAt) {
+
+        static Snapshot empty() {
+            return new Snapshot(Map.of(), Map.of(), new Roaring64NavigableMap(), Instant.EPOCH);
+        }
+
+        Roaring64NavigableMap postings(String slug) {
+            Long tagId = slugIds.get(slug);
+            return tagId == null ? null : postingsByTag.get(tagId);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package dowob.xyz.blog.module.tag.service;
+
+import dowob.xyz.blog.module.tag.model.dto.response.TagSuggestionResponse;
+import dowob.xyz.blog.module.tag.model.projection.TagInfo;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 標籤前綴索引
+ * <p>
+ * 標籤的名稱 (小寫) 與 Slug 保存在有序索引 ({@link ConcurrentSkipListMap})，前綴查詢為一次範圍掃描，
+ * 再以有界堆積取使用數最高的前 N 個。一兩個字元的前綴會命中大部分標籤，
+ * 因此長度不超過 {@code precomputedPrefixLength} 的前綴預先計算好前 N 名，查詢時直接取用，不做範圍掃描。
+ * </p>
+ * <p>
+ * 寫入端同時只能有一個 (由呼叫方互斥)，讀取端無鎖。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+public final class TagSuggestIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::usageCount).reversed()
+            .thenComparing(Entry::name);
+
+    private final int maxResults;
+    private final int precomputedPrefixLength;
+    private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, List<Entry>> shortPrefixTop = new ConcurrentHashMap<>();
+
+    /**
+     * 構造方法
+     *
+     * @param maxResults              單次查詢最多回傳數 (預先計算的名次數)
+     * @param precomputedPrefixLength 預先計算前 N 名的前綴最大長度
+     */
+    public TagSuggestIndex(int maxResults, int precomputedPrefixLength) {
+        this.maxResults = maxResults;
+        this.precomputedPrefixLength = precomputedPrefixLength;
+    }
+
+    /**
+     * 批次載入標籤 (載入完成後須呼叫 {@link #precompute()})
+     *
+     * @param tag 標籤
+     */
+    public void load(TagInfo tag) {
+        putEntry(tag);
+    }
+
+    /**
+     * 依目前所有標籤計算短前綴的前 N 名 (完整重建後呼叫一次)
+     */
+    public void precompute() {
+        Map<String, PriorityQueue<Entry>> heaps = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            for (String prefix : shortPrefixes(entry)) {
+                offer(heaps.computeIfAbsent(prefix, p -> new PriorityQueue<>(maxResults + 1, RANKING.reversed())),
+                        entry, maxResults);
+            }
+        }
+        shortPrefixTop.clear();
+        heaps.forEach((prefix, heap) -> shortPrefixTop.put(prefix, heap.stream().sorted(RANKING).toList()));
+    }
+
+    /**
+     * 增量更新：寫入變更的標籤、移除已刪除的標籤，並更新受影響短前綴的前 N 名
+     *
+     * @param changed 新增或變更的標籤
+     * @param removed 已刪除的標籤 ID
+     */
+    public void update(Collection<TagInfo> changed, Collection<Long> removed) {
+        for (TagInfo tag : changed) {
+            Entry previous = putEntry(tag);
+            Entry current = entries.get(tag.getId());
+            Set<String> prefixes = shortPrefixes(current);
+            if (previous != null) {
+                prefixes.addAll(shortPrefixes(previous));
+            }
+            prefixes.forEach(prefix -> refreshTop(prefix, previous, current));
+        }
+        for (Long id : removed) {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                keys.remove(previous.nameKey());
+                keys.remove(previous.slugKey());
+                shortPrefixes(previous).forEach(prefix -> refreshTop(prefix, previous, null));
+            }
+        }
+    }
+
+    /**
+     * 依前綴取得使用數最高的標籤
+     *
+     * @param query 輸入的前綴 (未正規化)
+     * @param limit 數量 (不超過 maxResults)
+     * @return 符合前綴的標籤，依使用數遞減
+     */
+    public List<TagSuggestionResponse> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        int size = Math.clamp(limit, 0, maxResults);
+        if (prefix.isEmpty() || size == 0) {
+            return List.of();
+        }
+        List<Entry> top;
+        if (prefix.length() <= precomputedPrefixLength) {
+            top = shortPrefixTop.getOrDefault(prefix, List.of());
+            top = top.subList(0, Math.min(size, top.size()));
+        } else {
+            top = scan(prefix, size);
+        }
+        return top.stream()
+                .map(entry -> new TagSuggestionResponse(entry.name(), entry.slug(), entry.color(), entry.usageCount()))
+                .toList();
+    }
+
+    /**
+     * 目前索引的標籤數
+     *
+     * @return 標籤數
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 更新單一短前綴的前 N 名
+     * <p>
+     * 名單未滿時即包含所有符合的標籤，直接增刪即可；名單已滿時，名單外的標籤排名都不高於名單最後一名，
+     * 因此只有已在名單中的標籤排名下滑或不再符合前綴時，才需要重新掃描找出遞補者。
+     * </p>
+     *
+     * @param prefix   短前綴
+     * @param previous 變更前的條目，新標籤為 null
+     * @param current  變更後的條目，已刪除時為 null
+     */
+    private void refreshTop(String prefix, Entry previous, Entry current) {
+        List<Entry> top = shortPrefixTop.getOrDefault(prefix, List.of());
+        long id = previous != null ? previous.id() : current.id();
+        boolean listed = top.stream().anyMatch(entry -> entry.id() == id);
+        Entry matching = current != null && shortPrefixes(current).contains(prefix) ? current : null;
+
+        List<Entry> next;
+        if (listed && top.size() >= maxResults && (matching == null || RANKING.compare(matching, previous) > 0)) {
+            next = scan(prefix, maxResults);
+        } else {
+            List<Entry> merged = new ArrayList<>(top.size() + 1);
+            top.stream().filter(entry -> entry.id() != id).forEach(merged::add);
+            if (matching != null) {
+                merged.add(matching);
+            }
+            merged.sort(RANKING);
+            next = List.copyOf(merged.subList(0, Math.min(maxResults, merged.size())));
+        }
+        if (next.isEmpty()) {
+            shortPrefixTop.remove(prefix);
+        } else {
+            shortPrefixTop.put(prefix, next);
+        }
+    }
+
+    /**
+     * 範圍掃描前綴並以有界堆積取前 N 名
+     */
+    private List<Entry> scan(String prefix, int size) {
+        Set<Long> seen = new HashSet<>();
+        PriorityQueue<Entry> top = new PriorityQueue<>(size + 1, RANKING.reversed());
+        for (Long id : keys.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            Entry entry = entries.get(id);
+            if (entry != null && seen.add(id)) {
+                offer(top, entry, size);
+            }
+        }
+        return top.stream().sorted(RANKING).toList();
+    }
+
+    private static void offer(PriorityQueue<Entry> top, Entry entry, int size) {
+        top.offer(entry);
+        if (top.size() > size) {
+            top.poll();
+        }
+    }
+
+    private Entry putEntry(TagInfo tag) {
+        Entry entry = new Entry(tag.getId(), tag.getName(), tag.getSlug(), tag.getColor(), tag.getUsageCount());
+        Entry previous = entries.put(entry.id(), entry);
+        if (previous != null) {
+            // 先移除舊鍵 (名稱或 Slug 可能已變更)，再寫入新鍵
+            keys.remove(previous.nameKey());
+            keys.remove(previous.slugKey());
+        }
+        keys.put(entry.nameKey(), entry.id());
+        keys.put(entry.slugKey(), entry.id());
+        return previous;
+    }
+
+    /**
+     * 條目名稱與 Slug 所有不超過預先計算長度的前綴
+     */
+    private Set<String> shortPrefixes(Entry entry) {
+        Set<String> prefixes = new HashSet<>();
+        for (String value : List.of(normalize(entry.name()), entry.slug())) {
+            for (int length = 1; length <= Math.min(precomputedPrefixLength, value.length()); length++) {
+                prefixes.add(value.substring(0, length));
+            }
+        }
+        return prefixes;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : Normalizer.normalize(value, Normalizer.Form.NFKC).strip().toLowerCase();
+    }
+
+    /**
+     * 索引條目
+     */
+    private record Entry(long id, String name, String slug, String color, long usageCount) {
+
+        /**
+         * 鍵為「小寫名稱/Slug + 分隔字元 + ID」，同名前綴的不同標籤不會互相覆蓋
+         */
+        String nameKey() {
+            return normalize(name) + KEY_SEPARATOR + id;
+        }
+
+        String slugKey() {
+            return slug + KEY_SEPARATOR + id;
+        }
+    }
+}
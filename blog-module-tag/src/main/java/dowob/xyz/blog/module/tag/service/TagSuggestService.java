@@ -0,0 +1,177 @@
+package dowob.xyz.blog.module.tag.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.module.tag.config.TagConfig;
+import dowob.xyz.blog.module.tag.mapper.TagMapper;
+import dowob.xyz.blog.module.tag.model.dto.response.TagSuggestionResponse;
+import dowob.xyz.blog.module.tag.model.projection.TagInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 標籤自動完成服務
+ * <p>
+ * 所有標籤保存在記憶體中的 {@link TagSuggestIndex}，每次按鍵不需查 DB；
+ * 短前綴 (長度不超過 {@code tag.suggest-precomputed-prefix-length}) 直接取預先計算的前 N 名，
+ * 較長的前綴命中範圍小，才做範圍掃描。
+ * </p>
+ * <p>
+ * 使用數變更經 Redis Pub/Sub ({@code tag:events}) 通知後，只重新載入事件中的標籤並就地更新索引
+ * (延遲期間的事件合併為一次查詢，受影響的短前綴一併重算)；定期完整重建作為遺失訊息時的保底。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class TagSuggestService implements MessageListener {
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+
+    private final TagMapper tagMapper;
+    private final TaskScheduler taskScheduler;
+    private final TagConfig config;
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean applyScheduled = new AtomicBoolean();
+
+    /**
+     * 完整重建與增量更新互斥 (持有期間會查詢 DB，使用 ReentrantLock 而非 synchronized，虛擬執行緒不會釘住載體執行緒)
+     */
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    /**
+     * 目前的索引 (完整重建時整體替換，增量更新就地修改)
+     */
+    private volatile TagSuggestIndex index;
+
+    public TagSuggestService(TagMapper tagMapper,
+            TaskScheduler taskScheduler,
+            RedisMessageListenerContainer listenerContainer,
+            TagConfig config) {
+        this.tagMapper = tagMapper;
+        this.taskScheduler = taskScheduler;
+        this.config = config;
+        this.index = newIndex();
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstant.TAG_EVENTS_CHANNEL));
+    }
+
+    /**
+     * 依前綴取得標籤建議 (比對名稱與 Slug，不分大小寫)
+     *
+     * @param query 輸入的前綴
+     * @param limit 數量 (不超過 tag.suggest-max-results)
+     * @return 符合前綴的標籤，依使用數遞減
+     */
+    public List<TagSuggestionResponse> suggest(String query, int limit) {
+        return index.suggest(query, limit);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String part : body.split(",")) {
+            try {
+                pendingIds.add(Long.parseLong(part.strip()));
+            } catch (NumberFormatException e) {
+                log.warn("Ignore malformed tag event: {}", body);
+                return;
+            }
+        }
+        scheduleApply();
+    }
+
+    /**
+     * 啟動時建立索引
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * 定期完整重建索引
+     */
+    @Scheduled(fixedDelayString = "${tag.suggest-rebuild-interval:3600000}",
+            initialDelayString = "${tag.suggest-rebuild-interval:3600000}")
+    public void rebuild() {
+        indexLock.lock();
+        try {
+            TagSuggestIndex rebuilt = newIndex();
+            long afterId = 0;
+            List<TagInfo> page;
+            do {
+                page = tagMapper.findPage(afterId, REBUILD_PAGE_SIZE);
+                page.forEach(rebuilt::load);
+                if (!page.isEmpty()) {
+                    afterId = page.getLast().getId();
+                }
+            } while (page.size() == REBUILD_PAGE_SIZE);
+            rebuilt.precompute();
+            index = rebuilt;
+            log.info("Rebuilt tag suggest index ({} tags)", rebuilt.size());
+        } catch (Exception e) {
+            // 保留舊索引繼續服務
+            log.error("Failed to rebuild tag suggest index", e);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 重新載入事件中的標籤並就地更新索引 (與完整重建互斥，避免更新寫入即將被替換的舊索引)
+     */
+    void applyPending() {
+        indexLock.lock();
+        try {
+            List<Long> ids = new ArrayList<>(pendingIds);
+            pendingIds.removeAll(ids);
+            if (ids.isEmpty()) {
+                return;
+            }
+            try {
+                List<TagInfo> loaded = tagMapper.findByIds(ids);
+                Set<Long> loadedIds = new HashSet<>();
+                loaded.forEach(tag -> loadedIds.add(tag.getId()));
+                index.update(loaded, ids.stream().filter(id -> !loadedIds.contains(id)).toList());
+            } catch (Exception e) {
+                // 放回待處理集合，下一次事件或完整重建時再套用
+                pendingIds.addAll(ids);
+                log.error("Failed to apply tag changes to suggest index", e);
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void scheduleApply() {
+        if (applyScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                applyScheduled.set(false);
+                applyPending();
+            }, Instant.now().plus(config.getCloudRefreshDelay()));
+        }
+    }
+
+    private TagSuggestIndex newIndex() {
+        return new TagSuggestIndex(config.getSuggestMaxResults(), config.getSuggestPrecomputedPrefixLength());
+    }
+}
@@ -0,0 +1,104 @@
+package dowob.xyz.blog.module.tag.service;
+
+import dowob.xyz.blog.common.constant.MqConstant;
+import dowob.xyz.blog.module.tag.mapper.TagMapper;
+import dowob.xyz.blog.module.tag.model.TagUsageDelta;
+import dowob.xyz.blog.module.tag.model.event.TagUsageEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 標籤使用數維護
+ * <p>
+ * 文章標籤變更於交易提交後投遞至 RabbitMQ，消費端把一批事件依標籤彙總為增量後以單一語句回寫，
+ * 再通知所有 Pod 重新載入標籤雲快照。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class TagUsageService {
+
+    private final TagMapper tagMapper;
+    private final TagCloudService tagCloudService;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public TagUsageService(TagMapper tagMapper,
+            TagCloudService tagCloudService,
+            RabbitTemplate rabbitTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.tagMapper = tagMapper;
+        this.tagCloudService = tagCloudService;
+        this.rabbitTemplate = rabbitTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 交易提交後投遞使用數事件
+     * <p>
+     * 投遞失敗時直接更新；{@link #apply} 一律在新交易中寫入 (原交易已提交但連線仍綁定在執行緒上，
+     * 直接寫入不會被提交)。
+     * </p>
+     *
+     * @param event 使用數事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void dispatch(TagUsageEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(MqConstant.TAG_EXCHANGE, MqConstant.TAG_USAGE_ROUTING_KEY, event);
+        } catch (Exception e) {
+            // 投遞失敗時退回直接更新，避免計數等到下一次校驗才修正
+            log.warn("Failed to dispatch usage delta for tag {}, applying inline: {}", event.tagId(), e.getMessage());
+            apply(List.of(event));
+        }
+    }
+
+    /**
+     * 彙總一批事件並回寫使用數
+     * <p>
+     * 在獨立交易中先以 SELECT ... ORDER BY id FOR UPDATE 依標籤 ID 順序鎖定，再以單一 UPDATE 回寫
+     * (UPDATE ... FROM (VALUES ...) 本身不保證鎖定順序)，並行的批次之間不會互相死鎖；
+     * 提交後才通知各 Pod 重新載入標籤雲。
+     * </p>
+     *
+     * @param events 使用數事件
+     * @return 回寫的標籤數
+     */
+    public int apply(List<TagUsageEvent> events) {
+        Map<Long, Long> totals = new TreeMap<>();
+        for (TagUsageEvent event : events) {
+            totals.merge(event.tagId(), (long) event.delta(), Long::sum);
+        }
+        List<TagUsageDelta> deltas = new ArrayList<>(totals.size());
+        totals.forEach((tagId, delta) -> {
+            if (delta != 0) {
+                deltas.add(new TagUsageDelta(tagId, delta));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> tagIds = deltas.stream().map(TagUsageDelta::tagId).toList();
+        requiresNew.executeWithoutResult(status -> {
+            tagMapper.lockByIds(tagIds);
+            tagMapper.addUsageCounts(deltas);
+        });
+        tagCloudService.publishChanged(tagIds);
+        return deltas.size();
+    }
+}
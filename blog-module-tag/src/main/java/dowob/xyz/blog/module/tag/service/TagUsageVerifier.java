@@ -0,0 +1,57 @@
+package dowob.xyz.blog.module.tag.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.reconcile.CountDriftReconciler;
+import dowob.xyz.blog.module.tag.config.TagConfig;
+import dowob.xyz.blog.module.tag.mapper.TagMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 標籤使用數校驗
+ * <p>
+ * 以 {@link CountDriftReconciler} 定期找出 usage_count 與 article_tags 實際筆數不一致的標籤，
+ * 連續兩輪以相同數值不一致才重新計算，並通知各 Pod 重新載入標籤雲。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+public class TagUsageVerifier {
+
+    private final TagMapper tagMapper;
+    private final TagCloudService tagCloudService;
+    private final TagConfig config;
+    private final CountDriftReconciler reconciler;
+
+    public TagUsageVerifier(TagMapper tagMapper,
+            TagCloudService tagCloudService,
+            StringRedisTemplate redisTemplate,
+            TagConfig config,
+            MeterRegistry meterRegistry) {
+        this.tagMapper = tagMapper;
+        this.tagCloudService = tagCloudService;
+        this.config = config;
+        this.reconciler = new CountDriftReconciler(redisTemplate, meterRegistry, "tag usage_count",
+                RedisKeyConstant.TAG_USAGE_VERIFY_LOCK, RedisKeyConstant.TAG_USAGE_DRIFT_KEY,
+                "tag.usage.verify.repaired");
+    }
+
+    @Scheduled(fixedDelayString = "${tag.verify-interval:600000}",
+            initialDelayString = "${tag.verify-interval:600000}")
+    public void verify() {
+        reconciler.verify(Duration.ofMillis(config.getVerifyInterval()), config.getVerifyBatchSize(),
+                tagMapper::maxId, tagMapper::findUsageDrift, this::repair);
+    }
+
+    private void repair(List<Long> tagIds) {
+        tagMapper.refreshUsageCounts(tagIds);
+        tagCloudService.publishChanged(tagIds);
+    }
+}
@@ -0,0 +1,67 @@
+package dowob.xyz.blog.module.user.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 認證快取預熱配置
+ *
+ * <p>
+ * 從 application.yaml 的 auth.warmup.* 前綴讀取配置：
+ * </p>
+ *
+ * <pre>
+ * auth:
+ *   warmup:
+ *     enabled: true
+ *     active-within: 7d
+ *     batch-size: 500
+ *     max-batches-per-second: 10
+ *     probe-interval: 30000
+ * </pre>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "auth.warmup")
+public class AuthWarmupConfig {
+
+    /**
+     * 是否啟用預熱
+     */
+    private boolean enabled = true;
+
+    /**
+     * 只預熱此期間內登入過的用戶
+     */
+    @NotNull(message = "auth.warmup.active-within 不可為空")
+    private Duration activeWithin = Duration.ofDays(7);
+
+    /**
+     * 每批讀取/寫入的用戶數
+     */
+    @Min(value = 1, message = "auth.warmup.batch-size 必須大於 0")
+    private int batchSize = 500;
+
+    /**
+     * 每秒最多處理的批次數 (限制對 Postgres 與 Redis 的壓力)
+     */
+    @Min(value = 1, message = "auth.warmup.max-batches-per-second 必須大於 0")
+    private int maxBatchesPerSecond = 10;
+
+    /**
+     * Redis 探測間隔 (毫秒)，用於偵測 Redis 重啟或切換後觸發預熱
+     */
+    private long probeInterval = 30000;
+}
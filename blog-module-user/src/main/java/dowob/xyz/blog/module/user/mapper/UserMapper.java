@@ -1,10 +1,14 @@
 package dowob.xyz.blog.module.user.mapper;
 
 import dowob.xyz.blog.module.user.model.User;
+import dowob.xyz.blog.module.user.model.projection.UserAuthInfo;
+import dowob.xyz.blog.module.user.model.projection.UserProfileInfo;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -37,4 +41,60 @@ public interface UserMapper {
      */
     @Select("SELECT * FROM users WHERE nickname ILIKE CONCAT('%', #{keyword}, '%')")
     List<User> searchByNickname(@Param("keyword") String keyword);
+
+    /**
+     * 查詢用戶認證資訊 (投影查詢)
+     *
+     * @param id 用戶 ID
+     * @return 認證資訊，不存在時為 null
+     */
+    @Select("SELECT id, role, status, token_version FROM users WHERE id = #{id}")
+    UserAuthInfo findAuthInfoById(@Param("id") Long id);
+
+    /**
+     * 批次查詢用戶公開資料 (投影查詢)
+     * <p>
+     * 以陣列參數 {@code = ANY(?)} 傳入 ID，不論數量都是同一條 SQL，可重用預備語句。
+     * </p>
+     *
+     * @param ids 用戶 ID
+     * @return 公開資料列表 (不存在的用戶不會出現在結果中)
+     */
+    @Select("SELECT id, nickname, avatar_url FROM users "
+            + "WHERE id = ANY(#{ids, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})")
+    List<UserProfileInfo> findProfilesByIds(@Param("ids") Long[] ids);
+
+    /**
+     * 以 Keyset 分批查詢近期登入用戶的認證資訊 (用於認證快取預熱)
+     *
+     * @param afterId 上一批最後的用戶 ID
+     * @param since   最近登入時間下限
+     * @param limit   批次大小
+     * @return 認證資訊列表 (依 ID 升冪)
+     */
+    @Select("SELECT id, role, status, token_version FROM users "
+            + "WHERE id > #{afterId} AND last_login_at >= #{since} ORDER BY id LIMIT #{limit}")
+    List<UserAuthInfo> findRecentAuthInfoAfter(@Param("afterId") Long afterId,
+            @Param("since") LocalDateTime since,
+            @Param("limit") int limit);
+
+    /**
+     * 更新最近登入時間
+     *
+     * @param id 用戶 ID
+     */
+    @Update("UPDATE users SET last_login_at = CURRENT_TIMESTAMP WHERE id = #{id}")
+    void updateLastLoginAt(@Param("id") Long id);
+
+    /**
+     * 更新密碼雜湊 (僅在雜湊未被其他操作變更時更新)
+     *
+     * @param id      用戶 ID
+     * @param oldHash 原雜湊值
+     * @param newHash 新雜湊值
+     * @return 影響筆數
+     */
+    @Update("UPDATE users SET password_hash = #{newHash}, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE id = #{id} AND password_hash = #{oldHash}")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
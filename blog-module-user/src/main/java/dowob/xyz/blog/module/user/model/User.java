@@ -78,6 +78,12 @@ public class User {
     @Column("token_version")
     private String tokenVersion;
 
+    /**
+     * 最近登入時間
+     */
+    @Column("last_login_at")
+    private LocalDateTime lastLoginAt;
+
     /**
      * 創建時間
      */
@@ -0,0 +1,35 @@
+package dowob.xyz.blog.module.user.model.projection;
+
+import lombok.Data;
+
+/**
+ * 用戶認證資訊投影 (僅 id/role/status/token_version)
+ * <p>
+ * 認證回源只需這幾個欄位，避免載入 bio、password_hash 等整列資料。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class UserAuthInfo {
+    /**
+     * 用戶 ID
+     */
+    private Long id;
+
+    /**
+     * 角色名稱
+     */
+    private String role;
+
+    /**
+     * 狀態名稱
+     */
+    private String status;
+
+    /**
+     * Token 版本號
+     */
+    private String tokenVersion;
+}
@@ -0,0 +1,27 @@
+package dowob.xyz.blog.module.user.model.projection;
+
+import lombok.Data;
+
+/**
+ * 用戶公開資料投影 (僅 id/nickname/avatar_url)
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Data
+public class UserProfileInfo {
+    /**
+     * 用戶 ID
+     */
+    private Long id;
+
+    /**
+     * 暱稱
+     */
+    private String nickname;
+
+    /**
+     * 頭像 URL
+     */
+    private String avatarUrl;
+}
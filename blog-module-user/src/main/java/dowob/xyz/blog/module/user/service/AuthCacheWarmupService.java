@@ -0,0 +1,199 @@
+package dowob.xyz.blog.module.user.service;
+
+import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.security.AuthState;
+import dowob.xyz.blog.infrastructure.security.AuthStateRepository;
+import dowob.xyz.blog.module.user.config.AuthWarmupConfig;
+import dowob.xyz.blog.module.user.mapper.UserMapper;
+import dowob.xyz.blog.module.user.model.projection.UserAuthInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 認證快取預熱服務
+ * <p>
+ * Redis 重啟後所有活躍用戶的 user:auth:* Hash 會同時失效，認證壓力全部落到 Postgres。
+ * 此服務以 Keyset 分批讀取近期登入的用戶，並以 Pipeline 批次回填認證 Hash；
+ * 已存在的 Hash 一律保留 (可能比讀到的快照更新)。
+ * </p>
+ * <ul>
+ *     <li>應用啟動完成時觸發一次</li>
+ *     <li>定期探測 Redis，偵測到預熱標記消失 (重啟/切換) 或連線恢復時再次觸發</li>
+ *     <li>預熱標記以 SETNX 搶佔，多個 Pod 中只有一個會執行</li>
+ *     <li>預熱標記與認證 Hash 同樣以 {@code auth.cache.redis-ttl} 過期：預熱中途失敗未能移除標記，
+ *     或部分資料遺失但標記仍在時，最遲在一個 TTL 後重新預熱</li>
+ * </ul>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class AuthCacheWarmupService {
+
+    private final UserMapper userMapper;
+    private final AuthStateRepository authStateRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final AuthWarmupConfig config;
+    private final Duration markerTtl;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong lastProcessedId = new AtomicLong(0);
+    private volatile boolean redisUnavailable = false;
+
+    private final Counter warmedUsers;
+    private final Timer warmupDuration;
+
+    public AuthCacheWarmupService(UserMapper userMapper,
+            AuthStateRepository authStateRepository,
+            StringRedisTemplate redisTemplate,
+            AuthWarmupConfig config,
+            MeterRegistry meterRegistry,
+            @Value("${auth.cache.redis-ttl:86400000}") long redisTtlMillis) {
+        this.userMapper = userMapper;
+        this.authStateRepository = authStateRepository;
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+        this.markerTtl = Duration.ofMillis(redisTtlMillis);
+        this.warmedUsers = Counter.builder("auth.warmup.users")
+                .description("Auth hashes written by cache warmup")
+                .register(meterRegistry);
+        this.warmupDuration = Timer.builder("auth.warmup.duration")
+                .description("Duration of a full auth cache warmup run")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.warmup.running", running, flag -> flag.get() ? 1 : 0);
+        meterRegistry.gauge("auth.warmup.last.id", lastProcessedId);
+    }
+
+    /**
+     * 應用啟動完成後觸發預熱
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        trigger("startup");
+    }
+
+    /**
+     * 定期探測 Redis 狀態
+     * <p>
+     * 預熱標記不存在代表 Redis 資料已遺失；探測由失敗轉為成功代表連線恢復，兩者皆觸發預熱。
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${auth.warmup.probe-interval:30000}",
+            initialDelayString = "${auth.warmup.probe-interval:30000}")
+    public void probeRedis() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        boolean markerExists;
+        try {
+            markerExists = Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyConstant.USER_AUTH_WARMUP_MARKER));
+        } catch (Exception e) {
+            if (!redisUnavailable) {
+                log.warn("Redis probe failed, auth cache warmup will run after reconnect: {}", e.getMessage());
+            }
+            redisUnavailable = true;
+            return;
+        }
+
+        if (redisUnavailable) {
+            redisUnavailable = false;
+            trigger("reconnect");
+        } else if (!markerExists) {
+            trigger("marker-missing");
+        }
+    }
+
+    /**
+     * 觸發一次預熱 (背景執行)
+     *
+     * @param reason 觸發原因 (記錄用)
+     */
+    public void trigger(String reason) {
+        if (!config.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofPlatform().name("auth-warmup").daemon().start(() -> {
+            try {
+                if (acquireMarker()) {
+                    log.info("Auth cache warmup started (trigger={})", reason);
+                    long count = warmupDuration.recordCallable(this::warmup);
+                    log.info("Auth cache warmup finished (trigger={}, users={})", reason, count);
+                }
+            } catch (Exception e) {
+                // 失敗時移除標記，讓下一次探測重新嘗試
+                releaseMarker();
+                log.error("Auth cache warmup failed (trigger={})", reason, e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private long warmup() throws InterruptedException {
+        LocalDateTime since = LocalDateTime.now().minus(config.getActiveWithin());
+        long minIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getMaxBatchesPerSecond();
+        long afterId = 0;
+        long total = 0;
+        lastProcessedId.set(0);
+
+        while (true) {
+            long batchStart = System.nanoTime();
+            List<UserAuthInfo> batch = userMapper.findRecentAuthInfoAfter(afterId, since, config.getBatchSize());
+            if (batch.isEmpty()) {
+                return total;
+            }
+
+            Map<Long, AuthState> states = new LinkedHashMap<>(batch.size());
+            for (UserAuthInfo info : batch) {
+                states.put(info.getId(), new AuthState(info.getTokenVersion(), info.getStatus()));
+            }
+            authStateRepository.saveAllIfAbsent(states);
+
+            afterId = batch.getLast().getId();
+            total += batch.size();
+            warmedUsers.increment(batch.size());
+            lastProcessedId.set(afterId);
+
+            if (batch.size() < config.getBatchSize()) {
+                return total;
+            }
+
+            // 限速：每批至少間隔 1s / maxBatchesPerSecond
+            long remainingNanos = minIntervalNanos - (System.nanoTime() - batchStart);
+            if (remainingNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            }
+        }
+    }
+
+    private boolean acquireMarker() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(RedisKeyConstant.USER_AUTH_WARMUP_MARKER, LocalDateTime.now().toString(), markerTtl));
+    }
+
+    private void releaseMarker() {
+        try {
+            redisTemplate.delete(RedisKeyConstant.USER_AUTH_WARMUP_MARKER);
+        } catch (Exception e) {
+            log.debug("Failed to release auth warmup marker: {}", e.getMessage());
+        }
+    }
+}
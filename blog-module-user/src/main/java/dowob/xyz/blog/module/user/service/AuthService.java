@@ -3,14 +3,15 @@ package dowob.xyz.blog.module.user.service;
 import dowob.xyz.blog.common.api.enums.Role;
 import dowob.xyz.blog.common.api.errorcode.UserErrorCode;
 import dowob.xyz.blog.common.exception.BusinessException;
-import dowob.xyz.blog.common.constant.RedisKeyConstant;
+import dowob.xyz.blog.infrastructure.security.AuthState;
+import dowob.xyz.blog.infrastructure.security.AuthStateCache;
 import dowob.xyz.blog.infrastructure.security.JwtUtil;
+import dowob.xyz.blog.infrastructure.security.PasswordHasher;
+import dowob.xyz.blog.module.user.mapper.UserMapper;
 import dowob.xyz.blog.module.user.model.User;
 import dowob.xyz.blog.common.api.enums.UserStatus;
 import dowob.xyz.blog.module.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,8 +27,9 @@ public class AuthService {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final StringRedisTemplate redisTemplate;
+    private final UserMapper userMapper;
+    private final PasswordHasher passwordHasher;
+    private final AuthStateCache authStateCache;
 
     /**
      * 用戶註冊
@@ -48,7 +50,7 @@ public class AuthService {
         User user = new User();
         user.setEmail(email);
         user.setNickname(nickname);
-        user.setPasswordHash(passwordEncoder.encode(password));
+        user.setPasswordHash(passwordHasher.encode(password));
         user.setRole(Role.USER);
         user.setStatus(UserStatus.PENDING_VERIFICATION);
 
@@ -68,7 +70,7 @@ public class AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_PASSWORD_ERROR));
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHasher.matches(password, user.getPasswordHash())) {
             throw new BusinessException(UserErrorCode.USER_PASSWORD_ERROR);
         }
 
@@ -76,14 +78,20 @@ public class AuthService {
             throw new BusinessException(UserErrorCode.ACCOUNT_SUSPENDED);
         }
 
+        // 雜湊演算法或成本已過時 -> 背景重新雜湊 (不影響本次登入延遲)
+        if (passwordHasher.needsUpgrade(user.getPasswordHash())) {
+            String oldHash = user.getPasswordHash();
+            passwordHasher.upgradeAsync(password,
+                    newHash -> userMapper.updatePasswordHash(user.getId(), oldHash, newHash));
+        }
+
+        userMapper.updateLastLoginAt(user.getId());
+
         // 生成 Token
         String token = jwtUtil.generateToken(user.getId(), user.getRole().name(), user.getTokenVersion());
 
-        // 更新 Redis 快取 (Hash 結構: v=版本號, status=狀態)
-        // 更新 Redis 快取 (Hash 結構: v=版本號, status=狀態)
-        String redisKey = RedisKeyConstant.getUserAuthKey(user.getId());
-        redisTemplate.opsForHash().put(redisKey, RedisKeyConstant.FIELD_VERSION, user.getTokenVersion());
-        redisTemplate.opsForHash().put(redisKey, RedisKeyConstant.FIELD_STATUS, user.getStatus().name());
+        // 更新認證快取 (Redis Hash: version=版本號, status=狀態) 並通知各 Pod 清除本地快取
+        authStateCache.update(user.getId(), new AuthState(user.getTokenVersion(), user.getStatus().name()));
 
         return token;
     }
@@ -0,0 +1,61 @@
+package dowob.xyz.blog.module.user.service;
+
+import dowob.xyz.blog.infrastructure.user.UserProfileLoader;
+import dowob.xyz.blog.infrastructure.user.UserProfileService;
+import dowob.xyz.blog.infrastructure.user.UserProfileService.UserProfile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 請求範圍的用戶公開資料批次載入器實作
+ * <p>
+ * 每個 HTTP 請求一個實例 (不需同步)；登記的 ID 在第一次讀取時合併為一次批次呼叫，
+ * 查無此用戶的結果也會記錄，同一請求內不會重複查詢。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class RequestUserProfileLoader implements UserProfileLoader {
+
+    private final UserProfileService userProfileService;
+
+    private final Set<Long> pending = new LinkedHashSet<>();
+    private final Map<Long, UserProfile> resolved = new HashMap<>();
+
+    @Override
+    public void register(Long userId) {
+        if (userId != null && !resolved.containsKey(userId)) {
+            pending.add(userId);
+        }
+    }
+
+    @Override
+    public UserProfile get(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        if (!resolved.containsKey(userId)) {
+            pending.add(userId);
+            dispatch();
+        }
+        return resolved.get(userId);
+    }
+
+    private void dispatch() {
+        Map<Long, UserProfile> loaded = userProfileService.getProfiles(pending);
+        for (Long userId : pending) {
+            resolved.put(userId, loaded.get(userId));
+        }
+        pending.clear();
+    }
+}
@@ -3,11 +3,14 @@ package dowob.xyz.blog.module.user.service;
 import dowob.xyz.blog.common.api.errorcode.UserErrorCode;
 import dowob.xyz.blog.common.exception.BusinessException;
 import dowob.xyz.blog.infrastructure.security.UserAuthService;
+import dowob.xyz.blog.module.user.mapper.UserMapper;
 import dowob.xyz.blog.module.user.model.User;
 import dowob.xyz.blog.module.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 /**
  * Infrastructure 用戶認證服務實作
  *
@@ -19,6 +22,7 @@ import org.springframework.stereotype.Service;
 public class UserAuthServiceImpl implements UserAuthService {
 
     private final UserRepository userRepository;
+    private final UserMapper userMapper;
 
     @Override
     public String getUserTokenVersion(Long userId) {
@@ -33,4 +37,11 @@ public class UserAuthServiceImpl implements UserAuthService {
                 .map(u -> new UserAuthService.SimpleUserDetail(u.getId(), u.getEmail(), u.getRole().name(), u.getStatus().isAvailable()))
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
     }
+
+    @Override
+    public UserAuthService.AuthSnapshot getAuthSnapshot(Long userId) {
+        return Optional.ofNullable(userMapper.findAuthInfoById(userId))
+                .map(u -> new UserAuthService.AuthSnapshot(u.getId(), u.getRole(), u.getStatus(), u.getTokenVersion()))
+                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+    }
 }
@@ -0,0 +1,73 @@
+package dowob.xyz.blog.module.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dowob.xyz.blog.infrastructure.user.UserProfileService;
+import dowob.xyz.blog.module.user.mapper.UserMapper;
+import dowob.xyz.blog.module.user.model.projection.UserProfileInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Infrastructure 用戶公開資料服務實作
+ * <p>
+ * 公開資料以本地快取保存 (短 TTL)，列表頁的作者大多重複，穩態下幾乎不查 DB；
+ * 未命中的 ID 透過 Caffeine 批次載入合併為一次 {@code = ANY(?)} 查詢。
+ * </p>
+ *
+ * @author Yuan
+ * @version 1.0
+ */
+@Service
+public class UserProfileServiceImpl implements UserProfileService {
+
+    private static final String CACHE_NAME = "user.profile.local";
+
+    private final UserMapper userMapper;
+    private final Cache<Long, UserProfile> cache;
+
+    public UserProfileServiceImpl(UserMapper userMapper,
+            MeterRegistry meterRegistry,
+            @Value("${user.profile.cache.maximum-size:10000}") long maximumSize,
+            @Value("${user.profile.cache.ttl:60s}") Duration ttl) {
+        this.userMapper = userMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Map<Long, UserProfile> getProfiles(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(ids, this::load);
+    }
+
+    @Override
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private Map<Long, UserProfile> load(Set<? extends Long> userIds) {
+        Map<Long, UserProfile> profiles = new HashMap<>(userIds.size() * 2);
+        for (UserProfileInfo info : userMapper.findProfilesByIds(userIds.toArray(Long[]::new))) {
+            profiles.put(info.getId(), new UserProfile(info.getId(), info.getNickname(), info.getAvatarUrl()));
+        }
+        return profiles;
+    }
+}
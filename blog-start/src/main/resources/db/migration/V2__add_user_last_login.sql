@@ -0,0 +1,5 @@
+-- 最近登入時間 (認證快取預熱依此篩選活躍用戶)
+ALTER TABLE users
+    ADD COLUMN last_login_at TIMESTAMP;
+
+CREATE INDEX idx_users_last_login ON users (last_login_at);
@@ -0,0 +1,7 @@
+-- 文章渲染產物 (儲存/發布時預先渲染，讀取時直接取用)
+ALTER TABLE articles
+    ADD COLUMN content_html    TEXT,
+    ADD COLUMN toc_json        JSONB,
+    ADD COLUMN reading_minutes INTEGER,
+    ADD COLUMN rendered_hash   VARCHAR(64),
+    ADD COLUMN rendered_at     TIMESTAMP;
@@ -0,0 +1,14 @@
+-- Keyset (游標) 分頁用的複合索引，排序方向與查詢的 ORDER BY 一致
+
+-- 已發布文章列表：ORDER BY published_at DESC, id DESC
+CREATE INDEX idx_articles_published_keyset ON articles (published_at DESC, id DESC)
+    WHERE status = 'PUBLISHED';
+
+-- 作者文章列表：WHERE author_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_articles_author_keyset ON articles (author_id, created_at DESC, id DESC);
+
+-- 依標籤查文章：主鍵為 (article_id, tag_id)，反向查詢需要 (tag_id, article_id)
+CREATE INDEX idx_article_tags_tag ON article_tags (tag_id, article_id);
+
+-- 文章留言列表：WHERE article_id = ? ORDER BY created_at, id
+CREATE INDEX idx_comments_article_keyset ON comments (article_id, created_at, id);
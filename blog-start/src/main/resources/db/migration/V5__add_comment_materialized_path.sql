@@ -0,0 +1,35 @@
+-- 留言物化路徑：path 為祖先到自身的 ID 串接 (每段 16 位十六進位，固定寬度使字串序等同樹的先序走訪)
+-- root_id 為所屬頂層留言，整串討論可用 (article_id, root_id, path) 單次範圍掃描依序讀出
+
+ALTER TABLE comments
+    ADD COLUMN root_id BIGINT,
+    ADD COLUMN depth   INT  NOT NULL DEFAULT 0,
+    ADD COLUMN path    TEXT COLLATE "C";
+
+-- 回填既有資料
+WITH RECURSIVE tree AS (SELECT id, id AS root_id, 0 AS depth, LPAD(TO_HEX(id), 16, '0') AS path
+                        FROM comments
+                        WHERE parent_id IS NULL
+                        UNION ALL
+                        SELECT c.id, t.root_id, t.depth + 1, t.path || LPAD(TO_HEX(c.id), 16, '0')
+                        FROM comments c
+                                 JOIN tree t ON c.parent_id = t.id)
+UPDATE comments c
+SET root_id = tree.root_id,
+    depth   = tree.depth,
+    path    = tree.path
+FROM tree
+WHERE c.id = tree.id;
+
+ALTER TABLE comments
+    ALTER COLUMN root_id SET NOT NULL,
+    ALTER COLUMN path SET NOT NULL;
+
+-- 討論串讀取：WHERE article_id = ? AND root_id IN (...) ORDER BY path / 回覆分頁 path > ?
+CREATE INDEX idx_comments_thread ON comments (article_id, root_id, path);
+
+-- 頂層留言游標分頁：WHERE article_id = ? AND parent_id IS NULL AND id > ? ORDER BY id
+CREATE INDEX idx_comments_top_level ON comments (article_id, id) WHERE parent_id IS NULL;
+
+-- 刪除父留言時級聯刪除需要依 parent_id 查找
+CREATE INDEX idx_comments_parent ON comments (parent_id);
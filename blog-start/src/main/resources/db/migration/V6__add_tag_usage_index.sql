@@ -0,0 +1,2 @@
+-- 標籤雲：WHERE usage_count > 0 ORDER BY usage_count DESC, id LIMIT N
+CREATE INDEX idx_tags_usage ON tags (usage_count DESC, id) WHERE usage_count > 0;
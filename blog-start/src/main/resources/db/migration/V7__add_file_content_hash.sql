@@ -0,0 +1,2 @@
+-- 上傳時串流計算的內容 SHA-256 (十六進位)，既有檔案為 NULL
+ALTER TABLE files ADD COLUMN content_sha256 CHAR(64);
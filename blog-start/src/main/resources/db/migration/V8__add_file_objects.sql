@@ -0,0 +1,42 @@
+-- 內容定址儲存：相同內容 (SHA-256 + 大小) 只保存一個 MinIO 物件，files 以 object_id 引用並以 ref_count 計數
+-- ref_count 歸零的物件超過保留時間後由 GC 刪除 (資料列與 MinIO 物件)
+
+CREATE TABLE file_objects
+(
+    id             BIGSERIAL PRIMARY KEY,
+    content_sha256 CHAR(64),
+    size_bytes     BIGINT       NOT NULL,
+    storage_key    VARCHAR(512) NOT NULL UNIQUE,
+    content_type   VARCHAR(100) NOT NULL,
+    ref_count      INTEGER      NOT NULL DEFAULT 0,
+    created_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- 既有檔案沒有雜湊 (NULL 互不相等)，不參與去重
+    CONSTRAINT uk_file_objects_content UNIQUE (content_sha256, size_bytes)
+);
+
+-- 回填：每個既有檔案一個物件；雜湊相同的既有檔案只保留最早一筆參與去重
+INSERT INTO file_objects (content_sha256, size_bytes, storage_key, content_type, ref_count, created_at, updated_at)
+SELECT CASE
+           WHEN ROW_NUMBER() OVER (PARTITION BY content_sha256, size_bytes ORDER BY id) = 1 THEN content_sha256
+           END,
+       size_bytes, storage_key, content_type, 1, created_at, created_at
+FROM files;
+
+ALTER TABLE files ADD COLUMN object_id BIGINT REFERENCES file_objects (id);
+
+UPDATE files f
+SET object_id = o.id
+FROM file_objects o
+WHERE o.storage_key = f.storage_key;
+
+ALTER TABLE files ALTER COLUMN object_id SET NOT NULL;
+
+-- 多筆 files 可指向同一物件
+ALTER TABLE files DROP CONSTRAINT IF EXISTS files_storage_key_key;
+
+-- 去重短路與 GC：WHERE object_id = ?
+CREATE INDEX idx_files_object ON files (object_id);
+
+-- GC 候選：WHERE ref_count = 0 AND updated_at < ?
+CREATE INDEX idx_file_objects_orphan ON file_objects (updated_at) WHERE ref_count = 0;